@@ -0,0 +1,92 @@
+/* Employee.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+/**
+ * This class is the element sorted by the benchmarks. It has the string, int and
+ * double properties accessed by both the property names and the getters.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class Employee {
+
+	private String _name;
+	private String _department;
+	private int _age;
+	private double _salary;
+
+	/**
+	 * Construct an <code>Employee</code> instance.
+	 * 
+	 * @param name the name of the employee
+	 * @param department the department of the employee
+	 * @param age the age of the employee
+	 * @param salary the salary of the employee
+	 */
+	public Employee(String name, String department, int age, double salary) {
+		_name = name;
+		_department = department;
+		_age = age;
+		_salary = salary;
+	}
+
+	/**
+	 * Get the name of the employee.
+	 * 
+	 * @return the name
+	 */
+	public String getName() {
+		return _name;
+	}
+
+	/**
+	 * Get the department of the employee.
+	 * 
+	 * @return the department
+	 */
+	public String getDepartment() {
+		return _department;
+	}
+
+	/**
+	 * Get the age of the employee.
+	 * 
+	 * @return the age
+	 */
+	public int getAge() {
+		return _age;
+	}
+
+	/**
+	 * Get the salary of the employee.
+	 * 
+	 * @return the salary
+	 */
+	public double getSalary() {
+		return _salary;
+	}
+}
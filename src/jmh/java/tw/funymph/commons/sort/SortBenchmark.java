@@ -0,0 +1,171 @@
+/* SortBenchmark.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class measures the time to sort the generated employees with each kind of
+ * the sort descriptors and each sort engine. The employees are generated once per
+ * trial; every benchmark sorts a copy of them, so the copy is included in all the
+ * measurements. The key cardinality is either low (a few departments and many
+ * ties) or high (almost unique keys). Run with the <code>benchmarks</code> profile,
+ * which enables the GC profiler to report the allocation per sort.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class SortBenchmark {
+
+	/**
+	 * The number of the distinct keys.
+	 */
+	public enum Cardinality {
+		LOW, HIGH
+	}
+
+	@Param({ "1000", "100000", "1000000", "10000000" })
+	private int size;
+
+	@Param({ "LOW", "HIGH" })
+	private Cardinality cardinality;
+
+	private List<Employee> _employees;
+	private Comparator<Employee> _comparator;
+	private SortDescriptors<Employee> _property;
+	private SortDescriptors<Employee> _lambda;
+	private SortDescriptors<Employee> _propertyChain;
+	private SortDescriptors<Employee> _lambdaChain;
+	private SortDescriptors<Employee> _primitiveChain;
+	private CompiledSortDescriptors<Employee> _compiledChain;
+	private CompiledSortDescriptors<Employee> _compiledPrimitiveChain;
+
+	/**
+	 * Generate the employees and create the sort descriptors.
+	 */
+	@Setup
+	public void setUp() {
+		Random random = new Random(size);
+		int departments = cardinality == Cardinality.LOW? 8 : size;
+		int names = cardinality == Cardinality.LOW? 100 : size;
+		_employees = new ArrayList<Employee>(size);
+		for (int index = 0; index < size; index++) {
+			String name = "Employee" + random.nextInt(names);
+			String department = "Department" + random.nextInt(departments);
+			int age = cardinality == Cardinality.LOW? 20 + random.nextInt(40) : random.nextInt();
+			_employees.add(new Employee(name, department, age, random.nextDouble() * 100000));
+		}
+
+		_comparator = Comparator.comparing(Employee::getDepartment).thenComparing(Employee::getAge, Comparator.reverseOrder()).thenComparing(Employee::getName);
+		_property = SortDescriptors.startWith("department");
+		_lambda = SortDescriptors.startWith(Employee::getDepartment);
+		_propertyChain = SortDescriptors.<Employee>startWith("department").thenWith("age", false).thenWith("name");
+		_lambdaChain = SortDescriptors.startWith(Employee::getDepartment).thenWith(Employee::getAge, false).thenWith(Employee::getName);
+		_primitiveChain = SortDescriptors.startWithInt(Employee::getAge, false).thenWithDouble(Employee::getSalary);
+		_compiledChain = _lambdaChain.compile();
+		_compiledPrimitiveChain = _primitiveChain.compile();
+	}
+
+	@Benchmark
+	public List<Employee> comparatorBaseline() {
+		List<Employee> result = new ArrayList<Employee>(_employees);
+		Collections.sort(result, _comparator);
+		return result;
+	}
+
+	@Benchmark
+	public List<Employee> propertyDescriptor() {
+		return _property.sortedList(_employees);
+	}
+
+	@Benchmark
+	public List<Employee> lambdaDescriptor() {
+		return _lambda.sortedList(_employees);
+	}
+
+	@Benchmark
+	public List<Employee> propertyChain() {
+		return _propertyChain.sortedList(_employees);
+	}
+
+	@Benchmark
+	public List<Employee> lambdaChain() {
+		return _lambdaChain.sortedList(_employees);
+	}
+
+	@Benchmark
+	public List<Employee> sortUtilsChain() {
+		return SortUtils.sortedList(_employees, _lambdaChain.getDescriptors());
+	}
+
+	@Benchmark
+	public List<Employee> compiledChain() {
+		return _compiledChain.sortedList(_employees);
+	}
+
+	@Benchmark
+	public List<Employee> primitiveChain() {
+		return _compiledPrimitiveChain.sortedList(_employees);
+	}
+
+	@Benchmark
+	public List<Employee> radixSort() {
+		return _compiledPrimitiveChain.radixSortedList(_employees);
+	}
+
+	@Benchmark
+	public List<Employee> parallelSort() {
+		return _compiledChain.parallelSortedList(_employees);
+	}
+
+	@Benchmark
+	public List<Employee> top100() {
+		return _compiledChain.top(100, _employees);
+	}
+}
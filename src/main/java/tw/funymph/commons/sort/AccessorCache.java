@@ -0,0 +1,88 @@
+/* AccessorCache.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class caches the accessors of a getter method resolved for each runtime
+ * class. The accessor of the last class is checked first because the objects
+ * usually share the same class. The cache is thread-safe.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+class AccessorCache {
+
+	private final String _methodName;
+	private final boolean _generate;
+	private volatile PropertyAccessor _lastAccessor;
+	private final ConcurrentMap<Class<?>, PropertyAccessor> _accessors;
+
+	/**
+	 * Construct an <code>AccessorCache</code> instance.
+	 * 
+	 * @param methodName the name of the getter method
+	 * @param generate {@code true} to call the getter through a generated transformer
+	 */
+	AccessorCache(String methodName, boolean generate) {
+		_methodName = methodName;
+		_generate = generate;
+		_accessors = new ConcurrentHashMap<Class<?>, PropertyAccessor>();
+	}
+
+	/**
+	 * Get the value of the getter from the given target object.
+	 * 
+	 * @param target the object to get the value
+	 * @return the value; <code>null</code> if the value can not be obtained
+	 */
+	Object get(Object target) {
+		return getAccessor(target.getClass()).get(target);
+	}
+
+	/**
+	 * Get the cached accessor of the given class, or resolve it if not cached yet.
+	 * 
+	 * @param type the runtime class of the object
+	 * @return the accessor to get the value
+	 */
+	PropertyAccessor getAccessor(Class<?> type) {
+		PropertyAccessor accessor = _lastAccessor;
+		if (accessor != null && accessor.getType() == type) {
+			return accessor;
+		}
+		accessor = _accessors.get(type);
+		if (accessor == null) {
+			accessor = PropertyAccessor.resolve(type, _methodName, _generate);
+			PropertyAccessor existing = _accessors.putIfAbsent(type, accessor);
+			accessor = existing != null? existing : accessor;
+		}
+		_lastAccessor = accessor;
+		return accessor;
+	}
+}
@@ -0,0 +1,149 @@
+/* AccessorGenerator.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class generates a {@link Transformer} that calls a getter method directly
+ * with {@link LambdaMetafactory}, so the getter performs like a hand-written
+ * lambda instead of a reflective call. The generated transformers are cached
+ * per (class, getter) pair and shared by all the sort descriptors.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+final class AccessorGenerator {
+
+	private static final String TRANSFORM_METHOD_NAME = "transform";
+
+	private static final MethodType TRANSFORMER_TYPE = MethodType.methodType(Transformer.class);
+	private static final MethodType TRANSFORM_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final ClassValue<ConcurrentMap<String, Transformer<Object, Object>>> TRANSFORMERS = new ClassValue<ConcurrentMap<String, Transformer<Object, Object>>>() {
+
+		@Override
+		protected ConcurrentMap<String, Transformer<Object, Object>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<String, Transformer<Object, Object>>();
+		}
+	};
+
+	/**
+	 * Prevent from creating an <code>AccessorGenerator</code> instance.
+	 */
+	private AccessorGenerator() {}
+
+	/**
+	 * Get the generated transformer that calls the given getter method. If the
+	 * transformer can not be generated, e.g., the getter is not accessible or the
+	 * class is not visible to this library, <code>null</code> is returned and the
+	 * caller should fall back to the Java Reflection.
+	 * 
+	 * @param method the getter method
+	 * @return the generated transformer; <code>null</code> if not permitted
+	 */
+	static Transformer<Object, Object> generate(Method method) {
+		if (!canGenerate(method)) {
+			return null;
+		}
+		ConcurrentMap<String, Transformer<Object, Object>> transformers = TRANSFORMERS.get(method.getDeclaringClass());
+		Transformer<Object, Object> transformer = transformers.get(method.getName());
+		if (transformer == null) {
+			transformer = spin(method);
+			if (transformer == null) {
+				return null;
+			}
+			Transformer<Object, Object> existing = transformers.putIfAbsent(method.getName(), transformer);
+			transformer = existing != null? existing : transformer;
+		}
+		return transformer;
+	}
+
+	/**
+	 * Check whether the transformer of the given getter can be generated. The
+	 * generated class is defined in the class loader of this library, so the
+	 * classes in the getter's signature must be visible from there.
+	 * 
+	 * @param method the getter method
+	 * @return {@code true} if the transformer can be generated
+	 */
+	private static boolean canGenerate(Method method) {
+		if (Modifier.isStatic(method.getModifiers()) || method.getReturnType() == void.class) {
+			return false;
+		}
+		return isVisible(method.getDeclaringClass()) && isVisible(method.getReturnType());
+	}
+
+	/**
+	 * Check whether the given class is visible from the class loader of this library.
+	 * 
+	 * @param type the class to check
+	 * @return {@code true} if the class is visible
+	 */
+	private static boolean isVisible(Class<?> type) {
+		if (type.isPrimitive()) {
+			return true;
+		}
+		try {
+			return Class.forName(type.getName(), false, AccessorGenerator.class.getClassLoader()) == type;
+		}
+		catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Spin a transformer class that calls the given getter method.
+	 * 
+	 * @param method the getter method
+	 * @return the generated transformer; <code>null</code> if failed
+	 */
+	@SuppressWarnings("unchecked")
+	private static Transformer<Object, Object> spin(Method method) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			// findVirtual performs the access checks that the generated class is subject to
+			MethodHandle getter = lookup.findVirtual(method.getDeclaringClass(), method.getName(), MethodType.methodType(method.getReturnType()));
+			CallSite site = LambdaMetafactory.metafactory(lookup, TRANSFORM_METHOD_NAME, TRANSFORMER_TYPE,
+				TRANSFORM_METHOD_TYPE, getter, getter.type().wrap());
+			return (Transformer<Object, Object>) site.getTarget().invoke();
+		}
+		catch (VirtualMachineError e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/* AdaptiveSort.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class provides a sort that adapts to the presortedness of the elements. A
+ * linear pass compares the adjacent elements with the descriptor chain to find
+ * the sorted prefix. A sorted list is left unchanged, and a strictly descending
+ * list is reversed. If only a small tail is out of order, the keys of the tail are
+ * extracted and sorted, and then the tail is merged into the prefix. Otherwise,
+ * the elements are sorted as {@link CompiledSortDescriptors#sort(List)} does. The
+ * equal elements are never reversed and the merge takes the element of the prefix
+ * first, so the sort is stable.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+final class AdaptiveSort {
+
+	/**
+	 * The tail is sorted and merged only if it is not longer than the number of the
+	 * elements divided by this fraction.
+	 */
+	static final int TAIL_FRACTION = 4;
+
+	/**
+	 * Prevent from creating an <code>AdaptiveSort</code> instance.
+	 */
+	private AdaptiveSort() {}
+
+	/**
+	 * Sort the given elements adaptively with the descriptor chain.
+	 * 
+	 * @param items the elements to sort
+	 * @param descriptors the compiled sort descriptors
+	 * @param <InputType> the type of the elements to be sorted
+	 */
+	static <InputType> void sort(List<InputType> items, CompiledSortDescriptors<InputType> descriptors) {
+		Object[] snapshot = items.toArray();
+		int length = sortedPrefix(snapshot, descriptors);
+		if (length == snapshot.length) {
+			return;
+		}
+		if (length == 1 && isStrictlyDescending(snapshot, descriptors)) {
+			Collections.reverse(items);
+			return;
+		}
+		if ((snapshot.length - length) * (long) TAIL_FRACTION > snapshot.length) {
+			SortUtils.reorder(items, snapshot, SortKeyTable.build(snapshot, descriptors).sortedIndexes());
+			return;
+		}
+		SortUtils.reorder(items, snapshot, mergeTail(snapshot, length, descriptors));
+	}
+
+	/**
+	 * Get the length of the longest sorted prefix of the given elements.
+	 * 
+	 * @param items the elements to check
+	 * @param descriptors the compiled sort descriptors
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the length of the sorted prefix
+	 */
+	@SuppressWarnings("unchecked")
+	private static <InputType> int sortedPrefix(Object[] items, CompiledSortDescriptors<InputType> descriptors) {
+		int length = 1;
+		while (length < items.length && descriptors.compare((InputType) items[length - 1], (InputType) items[length]) <= 0) {
+			length++;
+		}
+		return length;
+	}
+
+	/**
+	 * Check whether the given elements are strictly descending, i.e., no two adjacent
+	 * elements are equal, so reversing them keeps the sort stable.
+	 * 
+	 * @param items the elements to check
+	 * @param descriptors the compiled sort descriptors
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return true if the elements are strictly descending
+	 */
+	@SuppressWarnings("unchecked")
+	private static <InputType> boolean isStrictlyDescending(Object[] items, CompiledSortDescriptors<InputType> descriptors) {
+		for (int index = 1; index < items.length; index++) {
+			if (descriptors.compare((InputType) items[index - 1], (InputType) items[index]) <= 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Sort the tail after the sorted prefix and merge it into the prefix.
+	 * 
+	 * @param items the elements to sort
+	 * @param length the length of the sorted prefix
+	 * @param descriptors the compiled sort descriptors
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the sorted indexes of the elements
+	 */
+	@SuppressWarnings("unchecked")
+	private static <InputType> int[] mergeTail(Object[] items, int length, CompiledSortDescriptors<InputType> descriptors) {
+		Object[] tail = Arrays.copyOfRange(items, length, items.length);
+		int[] sortedTail = SortKeyTable.build(tail, descriptors).sortedIndexes();
+		int[] indexes = new int[items.length];
+		int start = upperBound(items, length, (InputType) tail[sortedTail[0]], descriptors);
+		for (int index = 0; index < start; index++) {
+			indexes[index] = index;
+		}
+
+		int left = start;
+		int right = 0;
+		int position = start;
+		while (left < length && right < sortedTail.length) {
+			if (descriptors.compare((InputType) items[left], (InputType) tail[sortedTail[right]]) <= 0) {
+				indexes[position++] = left++;
+			}
+			else {
+				indexes[position++] = length + sortedTail[right++];
+			}
+		}
+		while (left < length) {
+			indexes[position++] = left++;
+		}
+		while (right < sortedTail.length) {
+			indexes[position++] = length + sortedTail[right++];
+		}
+		return indexes;
+	}
+
+	/**
+	 * Find the first position of the sorted prefix whose element is greater than
+	 * the given element.
+	 * 
+	 * @param items the elements whose prefix is sorted
+	 * @param length the length of the sorted prefix
+	 * @param item the element to search
+	 * @param descriptors the compiled sort descriptors
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the position of the first greater element, or {@code length} if there is none
+	 */
+	@SuppressWarnings("unchecked")
+	private static <InputType> int upperBound(Object[] items, int length, InputType item, CompiledSortDescriptors<InputType> descriptors) {
+		int low = 0;
+		int high = length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (descriptors.compare((InputType) items[middle], item) <= 0) {
+				low = middle + 1;
+			}
+			else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+}
@@ -0,0 +1,224 @@
+/* CollationSortDescriptor.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * This class sorts elements by a string property with the collation rules of a
+ * locale. Comparing strings with a {@link Collator} is expensive, so the
+ * descriptor transforms each string into a {@link CollationKey} instead, which
+ * is computed once per element when the sort keys are extracted and compared as
+ * plain bytes afterwards. The collators are not thread-safe; each thread uses its
+ * own copy.
+ * <p>
+ * With {@link Option#CASE_INSENSITIVE}, the strings that differ only in case are
+ * equal. With {@link Option#NATURAL_NUMBERS}, the runs of digits are compared by
+ * their numeric values, e.g., "file9" sorts before "file10", and a number sorts
+ * before a text at the same position.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ * @param <InputType> the type of the elements to be sorted
+ */
+public class CollationSortDescriptor<InputType> extends AbstractSortDescriptor<InputType> {
+
+	/**
+	 * The options of the collation.
+	 */
+	public static enum Option {
+
+		/**
+		 * Ignore the differences in case.
+		 */
+		CASE_INSENSITIVE,
+
+		/**
+		 * Compare the runs of digits by their numeric values.
+		 */
+		NATURAL_NUMBERS
+	}
+
+	private final Transformer<InputType, String> _transformer;
+	private final boolean _natural;
+	private final ThreadLocal<Collator> _collators;
+
+	/**
+	 * Construct a <code>CollationSortDescriptor</code> instance that sorts elements
+	 * ascending.
+	 * 
+	 * @param transformer the transformer to get the string to sort
+	 * @param locale the locale of the collation rules
+	 * @param options the options of the collation
+	 * @throws IllegalArgumentException either {@code transformer} or {@code locale} is null
+	 */
+	public CollationSortDescriptor(Transformer<InputType, String> transformer, Locale locale, Option... options) {
+		this(transformer, locale, true, options);
+	}
+
+	/**
+	 * Construct a <code>CollationSortDescriptor</code> instance.
+	 * 
+	 * @param transformer the transformer to get the string to sort
+	 * @param locale the locale of the collation rules
+	 * @param ascending the sorting ordering
+	 * @param options the options of the collation
+	 * @throws IllegalArgumentException either {@code transformer} or {@code locale} is null
+	 */
+	public CollationSortDescriptor(Transformer<InputType, String> transformer, Locale locale, boolean ascending, Option... options) {
+		super(ascending);
+		if (transformer == null || locale == null) {
+			throw new IllegalArgumentException();
+		}
+		EnumSet<Option> settings = EnumSet.noneOf(Option.class);
+		for (Option option : options) {
+			settings.add(option);
+		}
+		final Collator collator = Collator.getInstance(locale);
+		if (settings.contains(Option.CASE_INSENSITIVE)) {
+			collator.setStrength(Collator.SECONDARY);
+		}
+		_transformer = transformer;
+		_natural = settings.contains(Option.NATURAL_NUMBERS);
+		_collators = new ThreadLocal<Collator>() {
+
+			@Override
+			protected Collator initialValue() {
+				return (Collator) collator.clone();
+			}
+		};
+	}
+
+	@Override
+	public Comparable<?> transform(InputType input) {
+		String value = _transformer.transform(input);
+		if (value == null) {
+			return null;
+		}
+		Collator collator = _collators.get();
+		return _natural? NaturalKey.create(value, collator) : collator.getCollationKey(value);
+	}
+
+	/**
+	 * This class is the sort key of the natural number mode. The string is split
+	 * into the runs of digits and the texts between them; the texts are compared
+	 * by their collation keys and the numbers by their values.
+	 */
+	private static class NaturalKey implements Comparable<NaturalKey> {
+
+		private Object[] _segments;
+
+		/**
+		 * Split the given string into the segments.
+		 * 
+		 * @param value the string to split
+		 * @param collator the collator to create the keys of the texts
+		 * @return the key
+		 */
+		private static NaturalKey create(String value, Collator collator) {
+			List<Object> segments = new ArrayList<Object>();
+			int start = 0;
+			while (start < value.length()) {
+				boolean digits = Character.isDigit(value.charAt(start));
+				int end = start + 1;
+				while (end < value.length() && Character.isDigit(value.charAt(end)) == digits) {
+					end++;
+				}
+				segments.add(digits? normalizeNumber(value, start, end) : collator.getCollationKey(value.substring(start, end)));
+				start = end;
+			}
+			return new NaturalKey(segments.toArray());
+		}
+
+		/**
+		 * Convert the given run of digits to the ASCII digits without the leading zeros.
+		 * 
+		 * @param value the string that contains the digits
+		 * @param start the start of the run of digits
+		 * @param end the end (exclusive) of the run of digits
+		 * @return the normalized digits
+		 */
+		private static String normalizeNumber(String value, int start, int end) {
+			StringBuilder number = new StringBuilder(end - start);
+			for (int index = start; index < end; index++) {
+				int digit = Character.digit(value.charAt(index), 10);
+				if (digit != 0 || number.length() > 0) {
+					number.append((char) ('0' + digit));
+				}
+			}
+			return number.toString();
+		}
+
+		/**
+		 * Construct a <code>NaturalKey</code> instance.
+		 * 
+		 * @param segments the texts and the numbers
+		 */
+		private NaturalKey(Object[] segments) {
+			_segments = segments;
+		}
+
+		@Override
+		public int compareTo(NaturalKey other) {
+			int length = Math.min(_segments.length, other._segments.length);
+			for (int index = 0; index < length; index++) {
+				int result = compare(_segments[index], other._segments[index]);
+				if (result != 0) {
+					return result;
+				}
+			}
+			return Integer.compare(_segments.length, other._segments.length);
+		}
+
+		/**
+		 * Compare the given two segments. A number is ordered before a text.
+		 * 
+		 * @param segment1 the first segment
+		 * @param segment2 the second segment
+		 * @return the compare result
+		 */
+		private static int compare(Object segment1, Object segment2) {
+			if (segment1 instanceof String) {
+				if (segment2 instanceof String) {
+					String number1 = (String) segment1;
+					String number2 = (String) segment2;
+					int result = Integer.compare(number1.length(), number2.length());
+					return result != 0? result : number1.compareTo(number2);
+				}
+				return -1;
+			}
+			if (segment2 instanceof String) {
+				return 1;
+			}
+			return ((CollationKey) segment1).compareTo((CollationKey) segment2);
+		}
+	}
+}
@@ -0,0 +1,342 @@
+/* ColumnSortDescriptor.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+/**
+ * This abstract class describes how to sort the rows of the columnar data, i.e.,
+ * the data kept as the parallel arrays, by one of the columns. The descriptor
+ * references the column array directly instead of transforming an object per
+ * row, so the keys are read from the primitive arrays without boxing. The
+ * descriptors are created by the factory methods.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ * @see ColumnarSort
+ */
+public abstract class ColumnSortDescriptor {
+
+	private final boolean _ascending;
+
+	/**
+	 * Construct a <code>ColumnSortDescriptor</code> instance with the sorting ordering.
+	 * 
+	 * @param ascending the sorting ordering
+	 */
+	ColumnSortDescriptor(boolean ascending) {
+		_ascending = ascending;
+	}
+
+	/**
+	 * Get the order to sort the rows.
+	 * 
+	 * @return true to sort the rows ascending
+	 */
+	public boolean isAscending() {
+		return _ascending;
+	}
+
+	/**
+	 * Get the number of the rows of the column.
+	 * 
+	 * @return the length of the column
+	 */
+	public abstract int length();
+
+	/**
+	 * Compare two rows of the column in ascending order.
+	 * 
+	 * @param row1 the index of the first row
+	 * @param row2 the index of the second row
+	 * @return a negative integer, zero, or a positive integer as the key of the first
+	 *         row is less than, equal to, or greater than the key of the second row
+	 */
+	abstract int compare(int row1, int row2);
+
+	/**
+	 * Get the column array referenced by the descriptor.
+	 * 
+	 * @return the column array
+	 */
+	abstract Object getColumn();
+
+	/**
+	 * Reorder the column by the given permutation in place.
+	 * 
+	 * @param permutation the permutation of the rows
+	 */
+	abstract void reorder(int[] permutation);
+
+	/**
+	 * Create a descriptor to sort the rows ascending by an <code>int</code> column.
+	 * 
+	 * @param column the column of the keys
+	 * @return the column sort descriptor
+	 * @throws IllegalArgumentException if {@code column} is null
+	 */
+	public static ColumnSortDescriptor of(int[] column) {
+		return of(column, true);
+	}
+
+	/**
+	 * Create a descriptor to sort the rows by an <code>int</code> column.
+	 * 
+	 * @param column the column of the keys
+	 * @param ascending the sorting ordering
+	 * @return the column sort descriptor
+	 * @throws IllegalArgumentException if {@code column} is null
+	 */
+	public static ColumnSortDescriptor of(final int[] column, boolean ascending) {
+		if (column == null) {
+			throw new IllegalArgumentException();
+		}
+		return new NarrowColumnSortDescriptor(ascending) {
+
+			@Override
+			int compare(int row1, int row2) {
+				return Integer.compare(column[row1], column[row2]);
+			}
+
+			@Override
+			public int length() {
+				return column.length;
+			}
+
+			@Override
+			Object getColumn() {
+				return column;
+			}
+
+			@Override
+			int intKey(int row) {
+				return column[row];
+			}
+
+			@Override
+			void reorder(int[] permutation) {
+				Permutations.apply(permutation, column);
+			}
+		};
+	}
+
+	/**
+	 * Create a descriptor to sort the rows ascending by a <code>byte</code> column,
+	 * e.g., the codes of an enumeration.
+	 * 
+	 * @param column the column of the keys
+	 * @return the column sort descriptor
+	 * @throws IllegalArgumentException if {@code column} is null
+	 */
+	public static ColumnSortDescriptor of(byte[] column) {
+		return of(column, true);
+	}
+
+	/**
+	 * Create a descriptor to sort the rows by a <code>byte</code> column.
+	 * 
+	 * @param column the column of the keys
+	 * @param ascending the sorting ordering
+	 * @return the column sort descriptor
+	 * @throws IllegalArgumentException if {@code column} is null
+	 */
+	public static ColumnSortDescriptor of(final byte[] column, boolean ascending) {
+		if (column == null) {
+			throw new IllegalArgumentException();
+		}
+		return new NarrowColumnSortDescriptor(ascending) {
+
+			@Override
+			int compare(int row1, int row2) {
+				return Byte.compare(column[row1], column[row2]);
+			}
+
+			@Override
+			public int length() {
+				return column.length;
+			}
+
+			@Override
+			Object getColumn() {
+				return column;
+			}
+
+			@Override
+			int intKey(int row) {
+				return column[row];
+			}
+
+			@Override
+			void reorder(int[] permutation) {
+				Permutations.apply(permutation, column);
+			}
+		};
+	}
+
+	/**
+	 * Create a descriptor to sort the rows ascending by a <code>long</code> column.
+	 * 
+	 * @param column the column of the keys
+	 * @return the column sort descriptor
+	 * @throws IllegalArgumentException if {@code column} is null
+	 */
+	public static ColumnSortDescriptor of(long[] column) {
+		return of(column, true);
+	}
+
+	/**
+	 * Create a descriptor to sort the rows by a <code>long</code> column.
+	 * 
+	 * @param column the column of the keys
+	 * @param ascending the sorting ordering
+	 * @return the column sort descriptor
+	 * @throws IllegalArgumentException if {@code column} is null
+	 */
+	public static ColumnSortDescriptor of(final long[] column, boolean ascending) {
+		if (column == null) {
+			throw new IllegalArgumentException();
+		}
+		return new ColumnSortDescriptor(ascending) {
+
+			@Override
+			int compare(int row1, int row2) {
+				return Long.compare(column[row1], column[row2]);
+			}
+
+			@Override
+			public int length() {
+				return column.length;
+			}
+
+			@Override
+			Object getColumn() {
+				return column;
+			}
+
+			@Override
+			void reorder(int[] permutation) {
+				Permutations.apply(permutation, column);
+			}
+		};
+	}
+
+	/**
+	 * Create a descriptor to sort the rows ascending by a <code>double</code> column.
+	 * 
+	 * @param column the column of the keys
+	 * @return the column sort descriptor
+	 * @throws IllegalArgumentException if {@code column} is null
+	 */
+	public static ColumnSortDescriptor of(double[] column) {
+		return of(column, true);
+	}
+
+	/**
+	 * Create a descriptor to sort the rows by a <code>double</code> column. The keys
+	 * are ordered as {@link Double#compare(double, double)} does.
+	 * 
+	 * @param column the column of the keys
+	 * @param ascending the sorting ordering
+	 * @return the column sort descriptor
+	 * @throws IllegalArgumentException if {@code column} is null
+	 */
+	public static ColumnSortDescriptor of(final double[] column, boolean ascending) {
+		if (column == null) {
+			throw new IllegalArgumentException();
+		}
+		return new ColumnSortDescriptor(ascending) {
+
+			@Override
+			int compare(int row1, int row2) {
+				return Double.compare(column[row1], column[row2]);
+			}
+
+			@Override
+			public int length() {
+				return column.length;
+			}
+
+			@Override
+			Object getColumn() {
+				return column;
+			}
+
+			@Override
+			void reorder(int[] permutation) {
+				Permutations.apply(permutation, column);
+			}
+		};
+	}
+
+	/**
+	 * Create a descriptor to sort the rows ascending by a column of comparable
+	 * keys, e.g., a <code>String</code> column.
+	 * 
+	 * @param column the column of the keys
+	 * @param <KeyType> the type of the keys
+	 * @return the column sort descriptor
+	 * @throws IllegalArgumentException if {@code column} is null
+	 */
+	public static <KeyType extends Comparable<? super KeyType>> ColumnSortDescriptor of(KeyType[] column) {
+		return of(column, true);
+	}
+
+	/**
+	 * Create a descriptor to sort the rows by a column of comparable keys. The
+	 * null keys are less than the others.
+	 * 
+	 * @param column the column of the keys
+	 * @param ascending the sorting ordering
+	 * @param <KeyType> the type of the keys
+	 * @return the column sort descriptor
+	 * @throws IllegalArgumentException if {@code column} is null
+	 */
+	public static <KeyType extends Comparable<? super KeyType>> ColumnSortDescriptor of(final KeyType[] column, boolean ascending) {
+		if (column == null) {
+			throw new IllegalArgumentException();
+		}
+		return new ColumnSortDescriptor(ascending) {
+
+			@Override
+			int compare(int row1, int row2) {
+				return SortUtils.compareKeys(column[row1], column[row2]);
+			}
+
+			@Override
+			public int length() {
+				return column.length;
+			}
+
+			@Override
+			Object getColumn() {
+				return column;
+			}
+
+			@Override
+			void reorder(int[] permutation) {
+				Permutations.apply(permutation, column);
+			}
+		};
+	}
+}
@@ -0,0 +1,183 @@
+/* ColumnarSort.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * This class provides the sort over the columnar data, i.e., the rows kept as the
+ * parallel arrays of the columns instead of the objects. The rows are ordered by
+ * the {@link ColumnSortDescriptor}s that reference the columns, each of which has
+ * its own direction. If the leading column fits in an <code>int</code>, its keys
+ * are packed with the row indexes into a <code>long</code> array and sorted as
+ * primitives, which reads the column once sequentially and keeps the sort stable
+ * by the row indexes; the ties are then sorted by the remaining columns.
+ * Otherwise the row indexes are sorted with a stable merge sort. The sort either
+ * produces the permutation of the rows or reorders the columns together.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public final class ColumnarSort {
+
+	/**
+	 * Prevent from creating a <code>ColumnarSort</code> instance.
+	 */
+	private ColumnarSort() {}
+
+	/**
+	 * Get the permutation that sorts the rows by the given column descriptors. The
+	 * row at position <code>i</code> of the sorted ordering is the row at position
+	 * <code>permutation[i]</code> of the columns, and the columns remain unchanged.
+	 * The permutation can be applied to the other columns by {@link Permutations}.
+	 * 
+	 * @param descriptors the column sort descriptors
+	 * @return the permutation of the rows in the sorted ordering
+	 * @throws IllegalArgumentException if {@code descriptors} is null, empty, contains
+	 *         null, or references the columns of different lengths
+	 */
+	public static int[] argsort(ColumnSortDescriptor... descriptors) {
+		int rows = validate(descriptors);
+		if (descriptors[0] instanceof NarrowColumnSortDescriptor) {
+			return packedSort((NarrowColumnSortDescriptor) descriptors[0], descriptors, rows);
+		}
+		int[] indexes = IndexSort.identity(rows);
+		IndexSort.sort(indexes, new ColumnChain(descriptors, 0));
+		return indexes;
+	}
+
+	/**
+	 * Sort the rows by the given column descriptors and reorder all the referenced
+	 * columns together in place. The returned permutation can be applied to the
+	 * other columns of the rows by {@link Permutations}. The sort is stable.
+	 * 
+	 * @param descriptors the column sort descriptors
+	 * @return the permutation of the rows in the sorted ordering
+	 * @throws IllegalArgumentException if {@code descriptors} is null, empty, contains
+	 *         null, or references the columns of different lengths
+	 */
+	public static int[] sort(ColumnSortDescriptor... descriptors) {
+		int[] permutation = argsort(descriptors);
+		Set<Object> reordered = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+		for (ColumnSortDescriptor descriptor : descriptors) {
+			if (reordered.add(descriptor.getColumn())) {
+				descriptor.reorder(permutation);
+			}
+		}
+		return permutation;
+	}
+
+	/**
+	 * Check the given descriptors and get the number of the rows.
+	 * 
+	 * @param descriptors the column sort descriptors
+	 * @return the number of the rows
+	 * @throws IllegalArgumentException if the descriptors are invalid
+	 */
+	private static int validate(ColumnSortDescriptor[] descriptors) {
+		if (descriptors == null || descriptors.length == 0 || descriptors[0] == null) {
+			throw new IllegalArgumentException();
+		}
+		int rows = descriptors[0].length();
+		for (ColumnSortDescriptor descriptor : descriptors) {
+			if (descriptor == null || descriptor.length() != rows) {
+				throw new IllegalArgumentException();
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * Sort the rows by packing the <code>int</code> keys of the leading column with
+	 * the row indexes, and then sort the ties by the remaining columns.
+	 * 
+	 * @param leading the leading column sort descriptor
+	 * @param descriptors the column sort descriptors
+	 * @param rows the number of the rows
+	 * @return the permutation of the rows in the sorted ordering
+	 */
+	private static int[] packedSort(NarrowColumnSortDescriptor leading, ColumnSortDescriptor[] descriptors, int rows) {
+		boolean ascending = leading.isAscending();
+		long[] packed = new long[rows];
+		for (int row = 0; row < rows; row++) {
+			int key = leading.intKey(row);
+			packed[row] = ((long) (ascending? key : ~key) << 32) | row;
+		}
+		Arrays.sort(packed);
+
+		int[] indexes = new int[rows];
+		for (int position = 0; position < rows; position++) {
+			indexes[position] = (int) packed[position];
+		}
+		if (descriptors.length == 1) {
+			return indexes;
+		}
+
+		ColumnChain remaining = new ColumnChain(descriptors, 1);
+		int start = 0;
+		for (int position = 1; position <= rows; position++) {
+			if (position < rows && (packed[position] >> 32) == (packed[start] >> 32)) {
+				continue;
+			}
+			if (position - start > 1) {
+				IndexSort.sort(indexes, start, position, remaining);
+			}
+			start = position;
+		}
+		return indexes;
+	}
+
+	/**
+	 * This class compares the rows by a chain of the column descriptors.
+	 */
+	private static class ColumnChain implements IndexComparator {
+
+		private ColumnSortDescriptor[] _descriptors;
+		private int[] _directions;
+
+		ColumnChain(ColumnSortDescriptor[] descriptors, int from) {
+			_descriptors = Arrays.copyOfRange(descriptors, from, descriptors.length);
+			_directions = new int[_descriptors.length];
+			for (int index = 0; index < _descriptors.length; index++) {
+				_directions[index] = _descriptors[index].isAscending()? 1 : -1;
+			}
+		}
+
+		@Override
+		public int compare(int row1, int row2) {
+			for (int index = 0; index < _descriptors.length; index++) {
+				int result = _descriptors[index].compare(row1, row2);
+				if (result != 0) {
+					return result * _directions[index];
+				}
+			}
+			return 0;
+		}
+	}
+}
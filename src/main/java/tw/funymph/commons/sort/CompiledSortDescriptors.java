@@ -0,0 +1,827 @@
+/* CompiledSortDescriptors.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collector;
+
+/**
+ * This class is an immutable snapshot of a sort descriptor chain. The descriptors
+ * are copied into an array and their sort ordering is resolved to a direction
+ * multiplier when compiled, so comparing two elements is a plain loop over the
+ * array, and the primitive sort descriptors compare their keys without boxing
+ * them. Later changes to the {@link SortDescriptors} builder or to the ascending
+ * setting of the descriptors do not affect the compiled instance.
+ * <p>
+ * The compiled instance is safe to be cached (e.g., in a static field) and shared
+ * by multiple threads as long as the descriptors themselves are thread-safe; all
+ * the descriptors in this package are.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ * @param <InputType> the type of the elements to be sorted
+ */
+public final class CompiledSortDescriptors<InputType> implements Comparator<InputType> {
+
+	private static final int ASCENDING = 1;
+	private static final int DESCENDING = -1;
+
+	/**
+	 * The listener of the counting chains of the instrumented sorts, so the sorts
+	 * they run are not instrumented again.
+	 */
+	private static final SortListener SILENT = new SortListener() {
+
+		@Override
+		public void sortCompleted(SortStatistics statistics) {}
+	};
+
+	private final SortDescriptor<InputType>[] _descriptors;
+	private final int[] _directions;
+	private final PrimitiveSortDescriptor<InputType>[] _primitives;
+	private final SortListener _listener;
+
+	/**
+	 * Construct a <code>CompiledSortDescriptors</code> instance with the snapshot
+	 * of the given sort descriptors.
+	 * 
+	 * @param descriptors the sort descriptors
+	 * @throws IllegalArgumentException either {@code descriptors} is null or contains null
+	 */
+	CompiledSortDescriptors(List<SortDescriptor<InputType>> descriptors) {
+		this(descriptors, null);
+	}
+
+	/**
+	 * Construct a <code>CompiledSortDescriptors</code> instance with the snapshot
+	 * of the given sort descriptors and the listener of the sorts.
+	 * 
+	 * @param descriptors the sort descriptors
+	 * @param listener the listener of the sorts; the global one is used if it is null
+	 * @throws IllegalArgumentException either {@code descriptors} is null or contains null
+	 */
+	@SuppressWarnings("unchecked")
+	CompiledSortDescriptors(List<SortDescriptor<InputType>> descriptors, SortListener listener) {
+		if (descriptors == null) {
+			throw new IllegalArgumentException();
+		}
+		_descriptors = descriptors.toArray((SortDescriptor<InputType>[]) new SortDescriptor<?>[descriptors.size()]);
+		_directions = new int[_descriptors.length];
+		_primitives = (PrimitiveSortDescriptor<InputType>[]) new PrimitiveSortDescriptor<?>[_descriptors.length];
+		_listener = listener;
+		for (int index = 0; index < _descriptors.length; index++) {
+			if (_descriptors[index] == null) {
+				throw new IllegalArgumentException();
+			}
+			_directions[index] = _descriptors[index].isAscending()? ASCENDING : DESCENDING;
+			if (_descriptors[index] instanceof PrimitiveSortDescriptor) {
+				_primitives[index] = (PrimitiveSortDescriptor<InputType>) _descriptors[index];
+			}
+		}
+	}
+
+	/**
+	 * Construct a <code>CompiledSortDescriptors</code> instance with the already
+	 * compiled arrays, e.g., a slice of another compiled chain.
+	 * 
+	 * @param descriptors the sort descriptors
+	 * @param directions the direction multipliers of the sort descriptors
+	 * @param primitives the primitive sort descriptors, or null for the others
+	 * @param listener the listener of the sorts; the global one is used if it is null
+	 */
+	private CompiledSortDescriptors(SortDescriptor<InputType>[] descriptors, int[] directions, PrimitiveSortDescriptor<InputType>[] primitives, SortListener listener) {
+		_descriptors = descriptors;
+		_directions = directions;
+		_primitives = primitives;
+		_listener = listener;
+	}
+
+	@Override
+	public int compare(InputType item1, InputType item2) {
+		for (int index = 0; index < _descriptors.length; index++) {
+			int result = compare(item1, item2, index);
+			if (result != 0) {
+				return result * _directions[index];
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Compare the given two items ascending with the descriptor at the given position.
+	 * 
+	 * @param item1 the first item to compare
+	 * @param item2 the second item to compare
+	 * @param index the position of the sort descriptor
+	 * @return the compare result without the direction applied
+	 */
+	int compare(InputType item1, InputType item2, int index) {
+		PrimitiveSortDescriptor<InputType> primitive = _primitives[index];
+		if (primitive != null) {
+			return primitive.compareKeys(item1, item2);
+		}
+		SortDescriptor<InputType> descriptor = _descriptors[index];
+		return SortUtils.compareKeys(descriptor.transform(item1), descriptor.transform(item2));
+	}
+
+	/**
+	 * Return a sorted elements from the given elements (remain unchanged).
+	 * 
+	 * @param items the items to sort
+	 * @return the sorted items
+	 * @throws IllegalArgumentException if {@code items} is null
+	 */
+	public List<InputType> sortedList(Collection<InputType> items) {
+		if (items == null) {
+			throw new IllegalArgumentException();
+		}
+
+		List<InputType> result = new ArrayList<InputType>(items);
+		sort(result);
+		return result;
+	}
+
+	/**
+	 * Sorted the given elements. The sort keys are extracted once per element and
+	 * descriptor before sorting. The sort is stable. If a {@link SortListener} is
+	 * set, the sort is instrumented and the statistics are reported to it.
+	 * 
+	 * @param items the items to sort
+	 * @throws IllegalArgumentException if {@code items} is null
+	 */
+	public void sort(List<InputType> items) {
+		if (items == null) {
+			throw new IllegalArgumentException();
+		}
+		SortListener listener = getSortListener();
+		if (listener != null) {
+			InstrumentedSort.sort(items, this, listener);
+			return;
+		}
+		if (items.size() < 2 || _descriptors.length == 0) {
+			return;
+		}
+
+		Object[] snapshot = items.toArray();
+		int[] indexes = SortKeyTable.build(snapshot, this).sortedIndexes();
+		SortUtils.reorder(items, snapshot, indexes);
+	}
+
+	/**
+	 * Get the permutation that sorts the given elements without reordering them.
+	 * The element at position <code>i</code> of the sorted ordering is the element at
+	 * position <code>permutation[i]</code> of the given list. The sort keys are
+	 * extracted once per element into the primitive columns if possible, and only
+	 * the <code>int</code> indexes are sorted. The sort is stable. The permutation
+	 * can be applied to the parallel arrays or lists by {@link Permutations}.
+	 * 
+	 * @param items the items to sort
+	 * @return the permutation of the indexes of the items in the sorted ordering
+	 * @throws IllegalArgumentException if {@code items} is null
+	 */
+	public int[] argsort(final List<InputType> items) {
+		if (items == null) {
+			throw new IllegalArgumentException();
+		}
+		SortListener listener = getSortListener();
+		if (listener != null) {
+			return InstrumentedSort.run(this, items.size(), listener, new InstrumentedSort.Engine<InputType, int[]>() {
+
+				@Override
+				public int[] run(CompiledSortDescriptors<InputType> descriptors) {
+					return descriptors.argsort(items);
+				}
+			});
+		}
+		if (items.size() < 2 || _descriptors.length == 0) {
+			return IndexSort.identity(items.size());
+		}
+
+		return SortKeyTable.build(items.toArray(), this).sortedIndexes();
+	}
+
+	/**
+	 * Return a sorted elements from the given elements (remain unchanged) adaptively.
+	 * See {@link #adaptiveSort(List)} for the details.
+	 * 
+	 * @param items the items to sort
+	 * @return the sorted items
+	 * @throws IllegalArgumentException if {@code items} is null
+	 */
+	public List<InputType> adaptiveSortedList(Collection<InputType> items) {
+		if (items == null) {
+			throw new IllegalArgumentException();
+		}
+
+		List<InputType> result = new ArrayList<InputType>(items);
+		adaptiveSort(result);
+		return result;
+	}
+
+	/**
+	 * Sorted the given elements adaptively. A linear pass over the adjacent elements
+	 * detects the presortedness: a sorted list is left unchanged and a strictly
+	 * descending list is reversed in linear time. If the list is sorted except for a
+	 * tail of at most a quarter of the items, only the tail is sorted and then merged
+	 * into the sorted prefix. Otherwise, the items are sorted as {@link #sort(List)}
+	 * does. The sort is stable.
+	 * 
+	 * @param items the items to sort
+	 * @throws IllegalArgumentException if {@code items} is null
+	 */
+	public void adaptiveSort(final List<InputType> items) {
+		if (items == null) {
+			throw new IllegalArgumentException();
+		}
+		SortListener listener = getSortListener();
+		if (listener != null) {
+			InstrumentedSort.run(this, items.size(), listener, new InstrumentedSort.Engine<InputType, Void>() {
+
+				@Override
+				public Void run(CompiledSortDescriptors<InputType> descriptors) {
+					descriptors.adaptiveSort(items);
+					return null;
+				}
+			});
+			return;
+		}
+		if (items.size() < 2 || _descriptors.length == 0) {
+			return;
+		}
+
+		AdaptiveSort.sort(items, this);
+	}
+
+	/**
+	 * Return a sorted elements from the given elements (remain unchanged) by refining
+	 * the ties lazily. See {@link #refinementSort(List)} for the details.
+	 * 
+	 * @param items the items to sort
+	 * @return the sorted items
+	 * @throws IllegalArgumentException if {@code items} is null
+	 */
+	public List<InputType> refinementSortedList(Collection<InputType> items) {
+		if (items == null) {
+			throw new IllegalArgumentException();
+		}
+
+		List<InputType> result = new ArrayList<InputType>(items);
+		refinementSort(result);
+		return result;
+	}
+
+	/**
+	 * Sorted the given elements by refining the ties lazily. The elements are sorted
+	 * by the first descriptor, and the keys of each next descriptor are extracted and
+	 * sorted only inside the runs of the elements that tie on the previous keys. It
+	 * is faster than {@link #sort(List)} when the leading keys are nearly unique and
+	 * the later transformers are expensive. The sort is stable.
+	 * 
+	 * @param items the items to sort
+	 * @throws IllegalArgumentException if {@code items} is null
+	 */
+	public void refinementSort(final List<InputType> items) {
+		if (items == null) {
+			throw new IllegalArgumentException();
+		}
+		SortListener listener = getSortListener();
+		if (listener != null) {
+			InstrumentedSort.run(this, items.size(), listener, new InstrumentedSort.Engine<InputType, Void>() {
+
+				@Override
+				public Void run(CompiledSortDescriptors<InputType> descriptors) {
+					descriptors.refinementSort(items);
+					return null;
+				}
+			});
+			return;
+		}
+		if (items.size() < 2 || _descriptors.length == 0) {
+			return;
+		}
+
+		Object[] snapshot = items.toArray();
+		int[] indexes = RefinementSort.sortedIndexes(snapshot, this);
+		SortUtils.reorder(items, snapshot, indexes);
+	}
+
+	/**
+	 * Return a sorted elements from the given elements (remain unchanged) with the
+	 * radix sort. See {@link #radixSort(List)} for the details.
+	 * 
+	 * @param items the items to sort
+	 * @return the sorted items
+	 * @throws IllegalArgumentException if {@code items} is null
+	 */
+	public List<InputType> radixSortedList(Collection<InputType> items) {
+		if (items == null) {
+			throw new IllegalArgumentException();
+		}
+
+		List<InputType> result = new ArrayList<InputType>(items);
+		radixSort(result);
+		return result;
+	}
+
+	/**
+	 * Sorted the given elements with the radix sort. If all the sort keys are
+	 * fixed-width, i.e., primitives, booleans, characters, numbers, or enums, the
+	 * whole descriptor chain is sorted as a composite key without comparing the
+	 * elements; otherwise, the comparison sort is used. The sort is stable.
+	 * 
+	 * @param items the items to sort
+	 * @throws IllegalArgumentException if {@code items} is null
+	 */
+	public void radixSort(final List<InputType> items) {
+		if (items == null) {
+			throw new IllegalArgumentException();
+		}
+		SortListener listener = getSortListener();
+		if (listener != null) {
+			InstrumentedSort.run(this, items.size(), listener, new InstrumentedSort.Engine<InputType, Void>() {
+
+				@Override
+				public Void run(CompiledSortDescriptors<InputType> descriptors) {
+					descriptors.radixSort(items);
+					return null;
+				}
+			});
+			return;
+		}
+		if (items.size() < 2 || _descriptors.length == 0) {
+			return;
+		}
+
+		Object[] snapshot = items.toArray();
+		int[] indexes = RadixSort.sortedIndexes(SortKeyTable.build(snapshot, this));
+		SortUtils.reorder(items, snapshot, indexes);
+	}
+
+	/**
+	 * Return a sorted elements from the given elements (remain unchanged) by their
+	 * normalized keys. See {@link #normalizedKeySort(List)} for the details.
+	 * 
+	 * @param items the items to sort
+	 * @return the sorted items
+	 * @throws IllegalArgumentException either {@code items} is null or any sort key cannot be encoded
+	 */
+	public List<InputType> normalizedKeySortedList(Collection<InputType> items) {
+		if (items == null) {
+			throw new IllegalArgumentException();
+		}
+
+		List<InputType> result = new ArrayList<InputType>(items);
+		normalizedKeySort(result);
+		return result;
+	}
+
+	/**
+	 * Sort the given elements by their normalized keys. The sort keys of each element
+	 * are encoded into a byte array by {@link NormalizedKeyEncoder}, and the elements
+	 * are sorted by comparing the bytes, mostly eight bytes at a time. It pays off when
+	 * the chain has several descriptors or string keys. The sort is stable.
+	 * 
+	 * @param items the items to sort
+	 * @throws IllegalArgumentException either {@code items} is null or any sort key cannot be encoded
+	 */
+	public void normalizedKeySort(final List<InputType> items) {
+		if (items == null) {
+			throw new IllegalArgumentException();
+		}
+		SortListener listener = getSortListener();
+		if (listener != null) {
+			InstrumentedSort.run(this, items.size(), listener, new InstrumentedSort.Engine<InputType, Void>() {
+
+				@Override
+				public Void run(CompiledSortDescriptors<InputType> descriptors) {
+					descriptors.normalizedKeySort(items);
+					return null;
+				}
+			});
+			return;
+		}
+		if (items.size() < 2 || _descriptors.length == 0) {
+			return;
+		}
+
+		Object[] snapshot = items.toArray();
+		int[] indexes = NormalizedKeySort.sortedIndexes(snapshot, new NormalizedKeyEncoder<InputType>(this));
+		SortUtils.reorder(items, snapshot, indexes);
+	}
+
+	/**
+	 * Return a sorted elements from the given elements (remain unchanged) in parallel
+	 * with the common pool. See {@link #parallelSort(List, ForkJoinPool, int)} for the
+	 * details.
+	 * 
+	 * @param items the items to sort
+	 * @return the sorted items
+	 * @throws IllegalArgumentException if {@code items} is null
+	 */
+	public List<InputType> parallelSortedList(Collection<InputType> items) {
+		return parallelSortedList(items, ForkJoinPool.commonPool(), SortUtils.DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * Return a sorted elements from the given elements (remain unchanged) in parallel
+	 * with the given pool. See {@link #parallelSort(List, ForkJoinPool, int)} for the
+	 * details.
+	 * 
+	 * @param items the items to sort
+	 * @param pool the pool to run the sort tasks
+	 * @param threshold the minimum number of the items to sort in parallel
+	 * @return the sorted items
+	 * @throws IllegalArgumentException either {@code items} is null or {@code pool} is null
+	 */
+	public List<InputType> parallelSortedList(Collection<InputType> items, ForkJoinPool pool, int threshold) {
+		if (items == null) {
+			throw new IllegalArgumentException();
+		}
+
+		List<InputType> result = new ArrayList<InputType>(items);
+		parallelSort(result, pool, threshold);
+		return result;
+	}
+
+	/**
+	 * Sorted the given elements in parallel with the common pool. See
+	 * {@link #parallelSort(List, ForkJoinPool, int)} for the details.
+	 * 
+	 * @param items the items to sort
+	 * @throws IllegalArgumentException if {@code items} is null
+	 */
+	public void parallelSort(List<InputType> items) {
+		parallelSort(items, ForkJoinPool.commonPool(), SortUtils.DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * Sorted the given elements in parallel with the given pool. The sort keys are
+	 * extracted in parallel, so the descriptors must be thread-safe. If the number of
+	 * the items is less than the threshold, the items are sorted sequentially as
+	 * {@link #sort(List)} does. The sort is stable.
+	 * 
+	 * @param items the items to sort
+	 * @param pool the pool to run the sort tasks
+	 * @param threshold the minimum number of the items to sort in parallel
+	 * @throws IllegalArgumentException either {@code items} is null or {@code pool} is null
+	 */
+	public void parallelSort(final List<InputType> items, final ForkJoinPool pool, final int threshold) {
+		if (items == null || pool == null) {
+			throw new IllegalArgumentException();
+		}
+		SortListener listener = getSortListener();
+		if (listener != null) {
+			InstrumentedSort.run(this, items.size(), listener, new InstrumentedSort.Engine<InputType, Void>() {
+
+				@Override
+				public Void run(CompiledSortDescriptors<InputType> descriptors) {
+					descriptors.parallelSort(items, pool, threshold);
+					return null;
+				}
+			});
+			return;
+		}
+		if (items.size() < threshold || pool.getParallelism() < 2) {
+			sort(items);
+			return;
+		}
+		if (items.size() < 2 || _descriptors.length == 0) {
+			return;
+		}
+
+		Object[] snapshot = items.toArray();
+		int[] indexes = ParallelSort.sortedIndexes(snapshot, this, pool);
+		SortUtils.reorder(items, snapshot, indexes);
+	}
+
+	/**
+	 * Return a sorted elements from the given elements (remain unchanged) by
+	 * partitioning them with the leading descriptor. See {@link #partitionSort(List, ForkJoinPool, int)}
+	 * for the details.
+	 * 
+	 * @param items the items to sort
+	 * @return the sorted items
+	 * @throws IllegalArgumentException if {@code items} is null
+	 */
+	public List<InputType> partitionSortedList(Collection<InputType> items) {
+		return partitionSortedList(items, ForkJoinPool.commonPool(), SortUtils.DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * Return a sorted elements from the given elements (remain unchanged) by
+	 * partitioning them with the leading descriptor and sorting the partitions with
+	 * the given pool. See {@link #partitionSort(List, ForkJoinPool, int)} for the details.
+	 * 
+	 * @param items the items to sort
+	 * @param pool the pool to sort the partitions
+	 * @param threshold the minimum number of the items to sort in parallel
+	 * @return the sorted items
+	 * @throws IllegalArgumentException either {@code items} is null or {@code pool} is null
+	 */
+	public List<InputType> partitionSortedList(Collection<InputType> items, ForkJoinPool pool, int threshold) {
+		if (items == null) {
+			throw new IllegalArgumentException();
+		}
+
+		List<InputType> result = new ArrayList<InputType>(items);
+		partitionSort(result, pool, threshold);
+		return result;
+	}
+
+	/**
+	 * Sorted the given elements by partitioning them with the leading descriptor
+	 * and sorting the partitions with the common pool. See
+	 * {@link #partitionSort(List, ForkJoinPool, int)} for the details.
+	 * 
+	 * @param items the items to sort
+	 * @throws IllegalArgumentException if {@code items} is null
+	 */
+	public void partitionSort(List<InputType> items) {
+		partitionSort(items, ForkJoinPool.commonPool(), SortUtils.DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * Sorted the given elements by partitioning them with the leading descriptor.
+	 * If the leading key has at most {@value PartitionSort#MAXIMUM_PARTITIONS} distinct
+	 * values, the elements are scattered into one partition per value with a counting
+	 * pass, and each partition is sorted by the remaining descriptors only, so the
+	 * leading descriptor is never compared. The partitions are sorted in parallel
+	 * with the given pool if the number of the items is not less than the threshold.
+	 * Otherwise the items are sorted as {@link #parallelSort(List, ForkJoinPool, int)}
+	 * does. The sort is stable, and the descriptors must be thread-safe.
+	 * 
+	 * @param items the items to sort
+	 * @param pool the pool to sort the partitions
+	 * @param threshold the minimum number of the items to sort in parallel
+	 * @throws IllegalArgumentException either {@code items} is null or {@code pool} is null
+	 */
+	public void partitionSort(final List<InputType> items, final ForkJoinPool pool, final int threshold) {
+		if (items == null || pool == null) {
+			throw new IllegalArgumentException();
+		}
+		SortListener listener = getSortListener();
+		if (listener != null) {
+			InstrumentedSort.run(this, items.size(), listener, new InstrumentedSort.Engine<InputType, Void>() {
+
+				@Override
+				public Void run(CompiledSortDescriptors<InputType> descriptors) {
+					descriptors.partitionSort(items, pool, threshold);
+					return null;
+				}
+			});
+			return;
+		}
+		if (items.size() < 2 || _descriptors.length == 0) {
+			return;
+		}
+
+		Object[] snapshot = items.toArray();
+		int[] indexes = PartitionSort.sortedIndexes(snapshot, this, pool, threshold);
+		if (indexes == null) {
+			parallelSort(items, pool, threshold);
+			return;
+		}
+		SortUtils.reorder(items, snapshot, indexes);
+	}
+
+	/**
+	 * Get the first {@code limit} elements of the sorted ordering of the given items.
+	 * See {@link #top(int, Iterator)} for the details.
+	 * 
+	 * @param limit the maximum number of the elements to get
+	 * @param items the items to select
+	 * @return the first elements in the sorted ordering
+	 * @throws IllegalArgumentException either {@code items} is null or {@code limit} is negative
+	 */
+	public List<InputType> top(int limit, Iterable<InputType> items) {
+		if (items == null) {
+			throw new IllegalArgumentException();
+		}
+		return top(limit, items.iterator());
+	}
+
+	/**
+	 * Get the first {@code limit} elements of the sorted ordering of the given items.
+	 * The result is identical to the first elements of {@link #sortedList(Collection)},
+	 * but the items are selected with a bounded heap in O(n log k) time and only the
+	 * selected elements are kept in memory, so the items are never materialized.
+	 * 
+	 * @param limit the maximum number of the elements to get
+	 * @param items the items to select
+	 * @return the first elements in the sorted ordering
+	 * @throws IllegalArgumentException either {@code items} is null or {@code limit} is negative
+	 */
+	public List<InputType> top(int limit, Iterator<InputType> items) {
+		if (items == null || limit < 0) {
+			throw new IllegalArgumentException();
+		}
+		return TopSelection.select(this, limit, items, true);
+	}
+
+	/**
+	 * Get the last {@code limit} elements of the sorted ordering of the given items.
+	 * See {@link #bottom(int, Iterator)} for the details.
+	 * 
+	 * @param limit the maximum number of the elements to get
+	 * @param items the items to select
+	 * @return the last elements in the sorted ordering
+	 * @throws IllegalArgumentException either {@code items} is null or {@code limit} is negative
+	 */
+	public List<InputType> bottom(int limit, Iterable<InputType> items) {
+		if (items == null) {
+			throw new IllegalArgumentException();
+		}
+		return bottom(limit, items.iterator());
+	}
+
+	/**
+	 * Get the last {@code limit} elements of the sorted ordering of the given items.
+	 * The result is identical to the last elements of {@link #sortedList(Collection)}
+	 * and is still in the sorted ordering, i.e., the last element of the result is the
+	 * last element of the sorted list. The items are selected with a bounded heap in
+	 * O(n log k) time and only the selected elements are kept in memory.
+	 * 
+	 * @param limit the maximum number of the elements to get
+	 * @param items the items to select
+	 * @return the last elements in the sorted ordering
+	 * @throws IllegalArgumentException either {@code items} is null or {@code limit} is negative
+	 */
+	public List<InputType> bottom(int limit, Iterator<InputType> items) {
+		if (items == null || limit < 0) {
+			throw new IllegalArgumentException();
+		}
+		return TopSelection.select(this, limit, items, false);
+	}
+
+	/**
+	 * Merge the given iterators whose elements are already sorted by this chain
+	 * into one sorted iteration. See {@link #merge(List, long)} for the details.
+	 * 
+	 * @param sources the sorted iterators to merge
+	 * @return the iterator of the merged elements
+	 * @throws IllegalArgumentException if {@code sources} is null or contains null
+	 */
+	public Iterator<InputType> merge(List<? extends Iterator<? extends InputType>> sources) {
+		return merge(sources, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Merge the given iterators whose elements are already sorted by this chain
+	 * into one sorted iteration. The elements are merged lazily with a heap of the
+	 * head of each iterator, so only one element per iterator is held in memory.
+	 * The equal elements are taken from the iterators in the given order, so the
+	 * result is identical to the stable sort of the concatenated elements. The
+	 * iteration stops after {@code limit} elements without reading the rest of the
+	 * iterators.
+	 * 
+	 * @param sources the sorted iterators to merge
+	 * @param limit the maximum number of the elements to iterate
+	 * @return the iterator of the merged elements
+	 * @throws IllegalArgumentException if {@code sources} is null or contains null, or {@code limit} is negative
+	 */
+	public Iterator<InputType> merge(List<? extends Iterator<? extends InputType>> sources, long limit) {
+		if (sources == null || limit < 0) {
+			throw new IllegalArgumentException();
+		}
+		for (Iterator<? extends InputType> source : sources) {
+			if (source == null) {
+				throw new IllegalArgumentException();
+			}
+		}
+		return new MergingIterator<InputType>(this, new ArrayList<Iterator<? extends InputType>>(sources), limit);
+	}
+
+	/**
+	 * Sort the given items that may not fit in memory. At most {@code runSize}
+	 * elements are sorted in memory at a time; the sorted runs are spilled to the
+	 * temporary files with the given codec and merged lazily. See
+	 * {@link ExternalSorter} to set the temporary directory or the merge width.
+	 * 
+	 * @param items the items to sort
+	 * @param codec the codec to spill the elements
+	 * @param runSize the maximum number of the elements sorted in memory
+	 * @return the iterator of the sorted elements, which should be closed if it is not exhausted
+	 * @throws IOException if the runs cannot be spilled
+	 * @throws IllegalArgumentException any of {@code items} and {@code codec} is null, or {@code runSize} is not positive
+	 */
+	public CloseableIterator<InputType> externalSort(Iterator<? extends InputType> items, ElementCodec<InputType> codec, int runSize) throws IOException {
+		return new ExternalSorter<InputType>(this, codec, runSize).sort(items);
+	}
+
+	/**
+	 * Get a {@link Collector} that sorts the elements of a stream into a list. The
+	 * chunks of a parallel stream are sorted by their own threads, and the sorted
+	 * chunks are merged by the combiner instead of being sorted again at the end.
+	 * The collection is stable in the encounter order of the stream.
+	 * 
+	 * @return the collector of the sorted list
+	 */
+	public Collector<InputType, ?, List<InputType>> toSortedList() {
+		return new SortingCollector<InputType>(this);
+	}
+
+	/**
+	 * Get the number of the compiled sort descriptors.
+	 * 
+	 * @return the number of the sort descriptors
+	 */
+	public int size() {
+		return _descriptors.length;
+	}
+
+	/**
+	 * Get a copy of this chain whose descriptors count their {@code transform}
+	 * invocations. The copy keeps the compiled directions and never reports to a
+	 * listener.
+	 * 
+	 * @param transforms the counters of the transform invocations of each descriptor
+	 * @return the counting chain
+	 */
+	@SuppressWarnings("unchecked")
+	CompiledSortDescriptors<InputType> counting(AtomicLongArray transforms) {
+		SortDescriptor<InputType>[] descriptors = (SortDescriptor<InputType>[]) new SortDescriptor<?>[_descriptors.length];
+		PrimitiveSortDescriptor<InputType>[] primitives = (PrimitiveSortDescriptor<InputType>[]) new PrimitiveSortDescriptor<?>[_descriptors.length];
+		for (int index = 0; index < descriptors.length; index++) {
+			descriptors[index] = InstrumentedSort.counting(_descriptors[index], _directions[index] == ASCENDING, transforms, index);
+			if (descriptors[index] instanceof PrimitiveSortDescriptor) {
+				primitives[index] = (PrimitiveSortDescriptor<InputType>) descriptors[index];
+			}
+		}
+		return new CompiledSortDescriptors<InputType>(descriptors, _directions.clone(), primitives, SILENT);
+	}
+
+	/**
+	 * Get the listener of the sorts with this chain, i.e., the one of this chain
+	 * or the global one.
+	 * 
+	 * @return the listener, or null if the sorts are not instrumented
+	 */
+	SortListener getSortListener() {
+		SortListener listener = _listener != null? _listener : SortUtils.getSortListener();
+		return listener != SILENT? listener : null;
+	}
+
+	/**
+	 * Get the compiled chain of the sort descriptors from the given position. The
+	 * sub-chain keeps the directions resolved when this chain was compiled.
+	 * 
+	 * @param from the position of the first sort descriptor of the sub-chain
+	 * @return the compiled sub-chain
+	 */
+	CompiledSortDescriptors<InputType> subChain(int from) {
+		return new CompiledSortDescriptors<InputType>(Arrays.copyOfRange(_descriptors, from, _descriptors.length),
+			Arrays.copyOfRange(_directions, from, _directions.length), Arrays.copyOfRange(_primitives, from, _primitives.length), _listener);
+	}
+
+	/**
+	 * Get the sort descriptor at the given position of the chain.
+	 * 
+	 * @param index the position of the sort descriptor
+	 * @return the sort descriptor
+	 */
+	SortDescriptor<InputType> getDescriptor(int index) {
+		return _descriptors[index];
+	}
+
+	/**
+	 * Get the direction multiplier of the sort descriptor at the given position,
+	 * <code>1</code> for ascending and <code>-1</code> for descending.
+	 * 
+	 * @param index the position of the sort descriptor
+	 * @return the direction multiplier
+	 */
+	int getDirection(int index) {
+		return _directions[index];
+	}
+}
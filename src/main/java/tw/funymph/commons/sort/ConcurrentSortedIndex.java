@@ -0,0 +1,281 @@
+/* ConcurrentSortedIndex.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class is a thread-safe index that keeps its elements sorted by a compiled
+ * descriptor chain. It is backed by a lock-free skip list, so the threads add,
+ * remove and scan the elements concurrently without a global lock; each operation
+ * takes O(log n) expected time. The iterators are weakly consistent, i.e., they
+ * never throw {@link java.util.ConcurrentModificationException} and reflect some
+ * of the changes made after they are created.
+ * <p>
+ * The sort keys of an element are extracted once when it is added. The equal
+ * elements are ordered by the time they are added and the same element can be
+ * added more than once. An element must not be mutated in a way that changes its
+ * sort keys while it is in the index; remove it before the change and add it
+ * again after.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ * @param <InputType> the type of the elements
+ */
+public class ConcurrentSortedIndex<InputType> {
+
+	private static final long LOWEST = Long.MIN_VALUE;
+	private static final long HIGHEST = Long.MAX_VALUE;
+
+	private CompiledSortDescriptors<InputType> _descriptors;
+	private ConcurrentSkipListSet<Entry<InputType>> _entries;
+	private AtomicLong _sequence;
+
+	/**
+	 * Construct an empty <code>ConcurrentSortedIndex</code> instance.
+	 * 
+	 * @param descriptors the compiled sort descriptors
+	 * @throws IllegalArgumentException if {@code descriptors} is null
+	 */
+	public ConcurrentSortedIndex(final CompiledSortDescriptors<InputType> descriptors) {
+		if (descriptors == null) {
+			throw new IllegalArgumentException();
+		}
+		_descriptors = descriptors;
+		_sequence = new AtomicLong(LOWEST + 1);
+		_entries = new ConcurrentSkipListSet<Entry<InputType>>(new Comparator<Entry<InputType>>() {
+
+			@Override
+			public int compare(Entry<InputType> entry1, Entry<InputType> entry2) {
+				for (int index = 0; index < entry1._keys.length; index++) {
+					int result = SortUtils.compareKeys(entry1._keys[index], entry2._keys[index]);
+					if (result != 0) {
+						return result * descriptors.getDirection(index);
+					}
+				}
+				return Long.compare(entry1._sequence, entry2._sequence);
+			}
+		});
+	}
+
+	/**
+	 * Add the given element at its sorted position.
+	 * 
+	 * @param item the element to add
+	 */
+	public void add(InputType item) {
+		_entries.add(new Entry<InputType>(item, extractKeys(item), _sequence.getAndIncrement()));
+	}
+
+	/**
+	 * Remove the given element. The element is searched among the elements that
+	 * have the same sort keys and is matched by identity. If the element is added
+	 * more than once, the earliest one is removed.
+	 * 
+	 * @param item the element to remove
+	 * @return {@code true} if the element is removed; {@code false} if it is not in the index
+	 */
+	public boolean remove(InputType item) {
+		Comparable<?>[] keys = extractKeys(item);
+		for (Entry<InputType> entry : _entries.subSet(new Entry<InputType>(null, keys, LOWEST), new Entry<InputType>(null, keys, HIGHEST))) {
+			if (entry._item == item && _entries.remove(entry)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get the first element of the sorted ordering.
+	 * 
+	 * @return the first element, or null if the index is empty
+	 */
+	public InputType first() {
+		Iterator<Entry<InputType>> entries = _entries.iterator();
+		return entries.hasNext()? entries.next()._item : null;
+	}
+
+	/**
+	 * Get the last element of the sorted ordering.
+	 * 
+	 * @return the last element, or null if the index is empty
+	 */
+	public InputType last() {
+		Iterator<Entry<InputType>> entries = _entries.descendingIterator();
+		return entries.hasNext()? entries.next()._item : null;
+	}
+
+	/**
+	 * Iterate all the elements in the sorted ordering. The iterator is weakly
+	 * consistent.
+	 * 
+	 * @return the iterator of the elements
+	 */
+	public Iterator<InputType> iterator() {
+		return new ItemIterator<InputType>(_entries.iterator());
+	}
+
+	/**
+	 * Iterate all the elements in the reverse of the sorted ordering. The iterator
+	 * is weakly consistent.
+	 * 
+	 * @return the iterator of the elements
+	 */
+	public Iterator<InputType> descendingIterator() {
+		return new ItemIterator<InputType>(_entries.descendingIterator());
+	}
+
+	/**
+	 * Iterate the elements between the given bounds in the sorted ordering. A bound
+	 * is a probe element whose sort keys are compared to the ones of the elements;
+	 * an inclusive bound includes all the elements whose sort keys are equal to it.
+	 * A null bound means unbounded. The iterator is weakly consistent.
+	 * 
+	 * @param from the lower bound
+	 * @param fromInclusive {@code true} to include the elements equal to the lower bound
+	 * @param to the upper bound
+	 * @param toInclusive {@code true} to include the elements equal to the upper bound
+	 * @return the iterator of the elements in the range
+	 */
+	public Iterator<InputType> range(InputType from, boolean fromInclusive, InputType to, boolean toInclusive) {
+		NavigableSet<Entry<InputType>> entries = _entries;
+		Entry<InputType> lower = from != null? new Entry<InputType>(null, extractKeys(from), fromInclusive? LOWEST : HIGHEST) : null;
+		Entry<InputType> upper = to != null? new Entry<InputType>(null, extractKeys(to), toInclusive? HIGHEST : LOWEST) : null;
+		if (lower != null && upper != null) {
+			if (_entries.comparator().compare(lower, upper) > 0) {
+				return Collections.<InputType>emptyList().iterator();
+			}
+			entries = _entries.subSet(lower, upper);
+		}
+		else if (lower != null) {
+			entries = _entries.tailSet(lower);
+		}
+		else if (upper != null) {
+			entries = _entries.headSet(upper);
+		}
+		return new ItemIterator<InputType>(entries.iterator());
+	}
+
+	/**
+	 * Get the number of the elements. Note that it traverses the whole index, so it
+	 * takes O(n) time and is inaccurate while other threads change the index.
+	 * 
+	 * @return the number of the elements
+	 */
+	public int size() {
+		return _entries.size();
+	}
+
+	/**
+	 * Check whether the index is empty.
+	 * 
+	 * @return {@code true} if the index is empty
+	 */
+	public boolean isEmpty() {
+		return _entries.isEmpty();
+	}
+
+	/**
+	 * Remove all the elements.
+	 */
+	public void clear() {
+		_entries.clear();
+	}
+
+	/**
+	 * Extract the sort keys of the given element.
+	 * 
+	 * @param item the element
+	 * @return the sort keys
+	 */
+	private Comparable<?>[] extractKeys(InputType item) {
+		Comparable<?>[] keys = new Comparable<?>[_descriptors.size()];
+		for (int index = 0; index < keys.length; index++) {
+			keys[index] = _descriptors.getDescriptor(index).transform(item);
+		}
+		return keys;
+	}
+
+	/**
+	 * This class is an entry of the index that holds an element and its sort keys.
+	 */
+	private static class Entry<InputType> {
+
+		private InputType _item;
+		private Comparable<?>[] _keys;
+		private long _sequence;
+
+		/**
+		 * Construct an <code>Entry</code> instance.
+		 * 
+		 * @param item the element
+		 * @param keys the sort keys of the element
+		 * @param sequence the sequence to order the equal elements
+		 */
+		private Entry(InputType item, Comparable<?>[] keys, long sequence) {
+			_item = item;
+			_keys = keys;
+			_sequence = sequence;
+		}
+	}
+
+	/**
+	 * This class iterates the elements of the entries.
+	 */
+	private static class ItemIterator<InputType> implements Iterator<InputType> {
+
+		private Iterator<Entry<InputType>> _entries;
+
+		/**
+		 * Construct an <code>ItemIterator</code> instance.
+		 * 
+		 * @param entries the iterator of the entries
+		 */
+		private ItemIterator(Iterator<Entry<InputType>> entries) {
+			_entries = entries;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return _entries.hasNext();
+		}
+
+		@Override
+		public InputType next() {
+			return _entries.next()._item;
+		}
+
+		@Override
+		public void remove() {
+			_entries.remove();
+		}
+	}
+}
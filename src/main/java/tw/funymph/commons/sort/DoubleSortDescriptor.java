@@ -0,0 +1,89 @@
+/* DoubleSortDescriptor.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+/**
+ * This class wraps a {@link DoubleTransformer} as a sort descriptor to sort elements
+ * by a primitive <code>double</code> key without boxing the key.
+ * <p>
+ * The keys are ordered as {@link Double#compare(double, double)} does, i.e.,
+ * <code>-0.0</code> is less than <code>0.0</code> and <code>NaN</code> is greater
+ * than any other value including the positive infinity. Thus, the <code>NaN</code>
+ * keys are placed last when sorting ascending and first when sorting descending.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class DoubleSortDescriptor<InputType> extends PrimitiveSortDescriptor<InputType> {
+
+	private DoubleTransformer<InputType> _transformer;
+
+	/**
+	 * Construct a <code>DoubleSortDescriptor</code> instance with the transformer.
+	 * 
+	 * @param transformer the transformer to wrap
+	 */
+	public DoubleSortDescriptor(DoubleTransformer<InputType> transformer) {
+		this(transformer, true);
+	}
+
+	/**
+	 * Construct a <code>DoubleSortDescriptor</code> instance with the transformer
+	 * and sorting ordering.
+	 * 
+	 * @param transformer the transformer to wrap
+	 * @param ascending the sorting ordering
+	 */
+	public DoubleSortDescriptor(DoubleTransformer<InputType> transformer, boolean ascending) {
+		super(ascending);
+		_transformer = transformer;
+	}
+
+	/**
+	 * Transforms the given input instance to the <code>double</code> key.
+	 * 
+	 * @param input the instance to be transform
+	 * @return the <code>double</code> key
+	 */
+	public double transformToDouble(InputType input) {
+		return _transformer.transform(input);
+	}
+
+	@Override
+	public Double transform(InputType input) {
+		return Double.valueOf(_transformer.transform(input));
+	}
+
+	@Override
+	int compareKeys(InputType item1, InputType item2) {
+		return Double.compare(_transformer.transform(item1), _transformer.transform(item2));
+	}
+
+	@Override
+	SortKeyColumn createColumn(int size, int direction) {
+		return new DoubleKeyColumn<InputType>(this, size, direction);
+	}
+}
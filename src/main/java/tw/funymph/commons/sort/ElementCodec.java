@@ -0,0 +1,60 @@
+/* ElementCodec.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * This interface defines how to write an element to and read it back from a
+ * binary stream. It is used to spill the sorted runs of an external sort to the
+ * temporary files.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ * @param <InputType> the type of the elements
+ */
+public interface ElementCodec<InputType> {
+
+	/**
+	 * Write the given element to the output.
+	 * 
+	 * @param element the element to write
+	 * @param output the output to write to
+	 * @throws IOException if the element cannot be written
+	 */
+	void encode(InputType element, DataOutput output) throws IOException;
+
+	/**
+	 * Read an element written by {@link #encode(Object, DataOutput)} from the input.
+	 * 
+	 * @param input the input to read from
+	 * @return the element
+	 * @throws IOException if the element cannot be read
+	 */
+	InputType decode(DataInput input) throws IOException;
+}
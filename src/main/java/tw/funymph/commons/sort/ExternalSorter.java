@@ -0,0 +1,481 @@
+/* ExternalSorter.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * This class sorts the elements that do not fit in memory. The elements are read
+ * in runs of at most {@code runSize} elements; each run is sorted in memory and
+ * spilled to a temporary file with the {@link ElementCodec}. The runs are then
+ * merged lazily by a k-way merge, so the sorted elements are streamed and at most
+ * one run and one element per spilled run are held in memory. If there are more
+ * runs than the merge width, the runs are merged in multiple passes. The last run
+ * is never spilled, so the elements that fit in one run are sorted without any
+ * temporary file. The sort is stable.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ * @param <InputType> the type of the elements to be sorted
+ */
+public class ExternalSorter<InputType> {
+
+	/**
+	 * The default maximum number of the runs merged at once.
+	 */
+	public static final int DEFAULT_MERGE_WIDTH = 64;
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private CompiledSortDescriptors<InputType> _descriptors;
+	private ElementCodec<InputType> _codec;
+	private int _runSize;
+	private int _mergeWidth;
+	private File _temporaryDirectory;
+
+	/**
+	 * Construct an <code>ExternalSorter</code> instance.
+	 * 
+	 * @param descriptors the compiled sort descriptors
+	 * @param codec the codec to spill the elements
+	 * @param runSize the maximum number of the elements sorted in memory
+	 * @throws IllegalArgumentException either {@code descriptors} or {@code codec} is null, or {@code runSize} is not positive
+	 */
+	public ExternalSorter(CompiledSortDescriptors<InputType> descriptors, ElementCodec<InputType> codec, int runSize) {
+		if (descriptors == null || codec == null || runSize < 1) {
+			throw new IllegalArgumentException();
+		}
+		_descriptors = descriptors;
+		_codec = codec;
+		_runSize = runSize;
+		_mergeWidth = DEFAULT_MERGE_WIDTH;
+	}
+
+	/**
+	 * Set the maximum number of the runs merged at once, i.e., the number of the
+	 * temporary files opened at the same time.
+	 * 
+	 * @param mergeWidth the maximum number of the runs merged at once
+	 * @throws IllegalArgumentException if {@code mergeWidth} is less than 2
+	 */
+	public void setMergeWidth(int mergeWidth) {
+		if (mergeWidth < 2) {
+			throw new IllegalArgumentException();
+		}
+		_mergeWidth = mergeWidth;
+	}
+
+	/**
+	 * Set the directory to create the temporary files. The default temporary
+	 * directory is used if it is null.
+	 * 
+	 * @param temporaryDirectory the directory to create the temporary files
+	 */
+	public void setTemporaryDirectory(File temporaryDirectory) {
+		_temporaryDirectory = temporaryDirectory;
+	}
+
+	/**
+	 * Sort the given items. The input is consumed before this method returns; the
+	 * returned iterator streams the sorted elements and deletes the temporary files
+	 * when it is exhausted or closed. An {@link UncheckedIOException} is thrown by
+	 * the returned iterator if a temporary file cannot be read or closed.
+	 * 
+	 * @param items the items to sort
+	 * @return the iterator of the sorted elements
+	 * @throws IOException if the runs cannot be spilled
+	 * @throws IllegalArgumentException if {@code items} is null
+	 */
+	public CloseableIterator<InputType> sort(Iterator<? extends InputType> items) throws IOException {
+		if (items == null) {
+			throw new IllegalArgumentException();
+		}
+
+		List<RunFile> runs = new ArrayList<RunFile>();
+		try {
+			List<InputType> run = new ArrayList<InputType>();
+			while (items.hasNext()) {
+				run.add(items.next());
+				if (run.size() == _runSize && items.hasNext()) {
+					runs.add(spill(run));
+					run.clear();
+				}
+			}
+			_descriptors.sort(run);
+			int extra = run.isEmpty()? 0 : 1;
+			while (runs.size() + extra > _mergeWidth) {
+				runs = mergePass(runs);
+			}
+			return new SortedIterator(runs, run);
+		}
+		catch (IOException | RuntimeException e) {
+			delete(runs);
+			throw e;
+		}
+	}
+
+	/**
+	 * Sort the given run and write it to a temporary file.
+	 * 
+	 * @param run the elements of the run
+	 * @return the spilled run
+	 * @throws IOException if the run cannot be written
+	 */
+	private RunFile spill(List<InputType> run) throws IOException {
+		_descriptors.sort(run);
+		return write(run.iterator());
+	}
+
+	/**
+	 * Write the given sorted elements to a temporary file.
+	 * 
+	 * @param elements the sorted elements
+	 * @return the spilled run
+	 * @throws IOException if the elements cannot be written
+	 */
+	private RunFile write(Iterator<? extends InputType> elements) throws IOException {
+		RunFile run = new RunFile(File.createTempFile("sort", ".run", _temporaryDirectory));
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(run._file), BUFFER_SIZE))) {
+			while (elements.hasNext()) {
+				_codec.encode(elements.next(), output);
+				run._count++;
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			run._file.delete();
+			throw e;
+		}
+		return run;
+	}
+
+	/**
+	 * Merge every {@code mergeWidth} consecutive runs into one run. The merged runs
+	 * are deleted.
+	 * 
+	 * @param runs the runs to merge
+	 * @return the merged runs in the same ordering
+	 * @throws IOException if the runs cannot be merged
+	 */
+	private List<RunFile> mergePass(List<RunFile> runs) throws IOException {
+		List<RunFile> merged = new ArrayList<RunFile>();
+		try {
+			for (int from = 0; from < runs.size(); from += _mergeWidth) {
+				List<RunFile> group = runs.subList(from, Math.min(from + _mergeWidth, runs.size()));
+				if (group.size() == 1) {
+					merged.add(group.get(0));
+					continue;
+				}
+				List<RunReader> readers = open(group);
+				try {
+					merged.add(write(new MergingIterator<InputType>(_descriptors, readers, Long.MAX_VALUE)));
+				}
+				catch (UncheckedIOException e) {
+					closeAll(readers, e.getCause());
+					throw e.getCause();
+				}
+				catch (IOException | RuntimeException e) {
+					closeAll(readers, e);
+					throw e;
+				}
+				closeAll(readers);
+				delete(group);
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			delete(merged);
+			throw e;
+		}
+		return merged;
+	}
+
+	/**
+	 * Open the readers of the given runs.
+	 * 
+	 * @param runs the runs to read
+	 * @return the readers of the runs
+	 * @throws IOException if any run cannot be opened
+	 */
+	private List<RunReader> open(List<RunFile> runs) throws IOException {
+		List<RunReader> readers = new ArrayList<RunReader>(runs.size());
+		try {
+			for (RunFile run : runs) {
+				readers.add(new RunReader(run));
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			closeAll(readers, e);
+			throw e;
+		}
+		return readers;
+	}
+
+	/**
+	 * Close the given readers. Every reader is closed even if some of them cannot
+	 * be closed; the first failure is thrown and suppresses the others.
+	 * 
+	 * @param readers the readers to close
+	 * @throws IOException if any reader cannot be closed
+	 */
+	private void closeAll(List<RunReader> readers) throws IOException {
+		IOException failure = null;
+		for (RunReader reader : readers) {
+			try {
+				reader.close();
+			}
+			catch (IOException e) {
+				if (failure == null) {
+					failure = e;
+				}
+				else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Close the given readers after the given failure. The readers that cannot be
+	 * closed are recorded as suppressed by the failure.
+	 * 
+	 * @param readers the readers to close
+	 * @param failure the failure that stops reading the runs
+	 */
+	private void closeAll(List<RunReader> readers, Throwable failure) {
+		for (RunReader reader : readers) {
+			reader.close(failure);
+		}
+	}
+
+	/**
+	 * Delete the files of the given runs.
+	 * 
+	 * @param runs the runs to delete
+	 */
+	private static void delete(List<RunFile> runs) {
+		for (RunFile run : runs) {
+			run._file.delete();
+		}
+	}
+
+	/**
+	 * This class holds a temporary file of a sorted run.
+	 */
+	private static class RunFile {
+
+		private File _file;
+		private long _count;
+
+		/**
+		 * Construct a <code>RunFile</code> instance.
+		 * 
+		 * @param file the temporary file
+		 */
+		private RunFile(File file) {
+			_file = file;
+		}
+	}
+
+	/**
+	 * This class reads the elements of a sorted run and closes the file once all the
+	 * elements are read.
+	 */
+	private class RunReader implements Iterator<InputType> {
+
+		private DataInputStream _input;
+		private long _remaining;
+
+		/**
+		 * Construct a <code>RunReader</code> instance.
+		 * 
+		 * @param run the run to read
+		 * @throws IOException if the file cannot be opened
+		 */
+		private RunReader(RunFile run) throws IOException {
+			_input = new DataInputStream(new BufferedInputStream(new FileInputStream(run._file), BUFFER_SIZE));
+			_remaining = run._count;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return _remaining > 0;
+		}
+
+		@Override
+		public InputType next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			InputType element;
+			try {
+				element = _codec.decode(_input);
+			}
+			catch (IOException e) {
+				close(e);
+				throw new UncheckedIOException(e);
+			}
+			if (--_remaining == 0) {
+				try {
+					close();
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+			return element;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * Close the file. Closing a closed reader has no effect.
+		 * 
+		 * @throws IOException if the file cannot be closed
+		 */
+		private void close() throws IOException {
+			_remaining = 0;
+			_input.close();
+		}
+
+		/**
+		 * Close the file after the given failure. If the file cannot be closed, the
+		 * cause is recorded as suppressed by the failure.
+		 * 
+		 * @param failure the failure that stops reading the run
+		 */
+		private void close(Throwable failure) {
+			try {
+				close();
+			}
+			catch (IOException e) {
+				failure.addSuppressed(e);
+			}
+		}
+	}
+
+	/**
+	 * This class merges the spilled runs and the run in memory, and deletes the
+	 * temporary files when it is exhausted or closed.
+	 */
+	private class SortedIterator implements CloseableIterator<InputType> {
+
+		private List<RunFile> _runs;
+		private List<RunReader> _readers;
+		private Iterator<InputType> _merged;
+
+		/**
+		 * Construct a <code>SortedIterator</code> instance.
+		 * 
+		 * @param runs the spilled runs
+		 * @param run the sorted run in memory
+		 * @throws IOException if any run cannot be opened
+		 */
+		private SortedIterator(List<RunFile> runs, List<InputType> run) throws IOException {
+			_runs = runs;
+			_readers = open(runs);
+			if (runs.isEmpty()) {
+				_merged = run.iterator();
+			}
+			else {
+				List<Iterator<InputType>> sources = new ArrayList<Iterator<InputType>>(_readers);
+				sources.add(run.iterator());
+				_merged = new MergingIterator<InputType>(_descriptors, sources, Long.MAX_VALUE);
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (_merged.hasNext()) {
+				return true;
+			}
+			close();
+			return false;
+		}
+
+		@Override
+		public InputType next() {
+			try {
+				return _merged.next();
+			}
+			catch (RuntimeException e) {
+				closeAll(_readers, e);
+				release();
+				throw e;
+			}
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * 
+		 * @throws UncheckedIOException if any temporary file cannot be closed
+		 */
+		@Override
+		public void close() {
+			try {
+				closeAll(_readers);
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			finally {
+				release();
+			}
+		}
+
+		/**
+		 * Delete the temporary files and drop the remaining elements.
+		 */
+		private void release() {
+			delete(_runs);
+			_readers = Collections.emptyList();
+			_runs = Collections.emptyList();
+			_merged = Collections.<InputType>emptyList().iterator();
+		}
+	}
+}
@@ -0,0 +1,299 @@
+/* FieldSortDescriptor.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class sorts elements by the value of a field, which can be private or
+ * declared in a superclass, without a getter. The field is read through a
+ * method handle resolved once per runtime class and cached, which is much faster
+ * than the reflective getter call. If the field is not found, can not be
+ * accessed, or is neither primitive nor {@link Comparable}, the key is
+ * <code>null</code>; the failure is resolved once per class as well.
+ * <p>
+ * If the class of the elements is known, {@link #of(Class, String, boolean)}
+ * resolves the field in advance and reads the primitive fields as the primitive
+ * sort descriptors, so the values are never boxed.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ * @param <InputType> the type of the elements to be sorted
+ */
+public class FieldSortDescriptor<InputType> extends AbstractSortDescriptor<InputType> {
+
+	private static final MethodType BOXED_GETTER = MethodType.methodType(Comparable.class, Object.class);
+
+	private final String _fieldName;
+	private volatile Getter _lastGetter;
+	private final ConcurrentMap<Class<?>, Getter> _getters;
+
+	/**
+	 * Create a sort descriptor that sorts elements of the given class by the field.
+	 * The <code>int</code>, <code>long</code>, <code>double</code> fields and the
+	 * narrower primitive fields are read without boxing by an {@link IntSortDescriptor},
+	 * a {@link LongSortDescriptor}, or a {@link DoubleSortDescriptor}; the other fields
+	 * are read by a <code>FieldSortDescriptor</code>.
+	 * 
+	 * @param type the class of the elements
+	 * @param fieldName the name of the field
+	 * @param ascending the sorting ordering
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the sort descriptor
+	 * @throws IllegalArgumentException if there is no such instance field, or the
+	 *         type of the field is neither primitive nor {@link Comparable}
+	 */
+	public static <InputType> SortDescriptor<InputType> of(Class<InputType> type, String fieldName, boolean ascending) {
+		if (type == null || fieldName == null) {
+			throw new IllegalArgumentException();
+		}
+		Field field = findField(type, fieldName);
+		if (field == null || !isComparable(field.getType())) {
+			throw new IllegalArgumentException();
+		}
+		Class<?> fieldType = field.getType();
+		final MethodHandle getter = unreflect(field);
+		if (fieldType == int.class || fieldType == short.class || fieldType == char.class || fieldType == byte.class) {
+			final MethodHandle handle = getter.asType(MethodType.methodType(int.class, Object.class));
+			return new IntSortDescriptor<InputType>(new IntTransformer<InputType>() {
+
+				@Override
+				public int transform(InputType input) {
+					try {
+						return (int) handle.invokeExact((Object) input);
+					}
+					catch (Throwable e) {
+						throw rethrow(e);
+					}
+				}
+			}, ascending);
+		}
+		if (fieldType == long.class) {
+			final MethodHandle handle = getter.asType(MethodType.methodType(long.class, Object.class));
+			return new LongSortDescriptor<InputType>(new LongTransformer<InputType>() {
+
+				@Override
+				public long transform(InputType input) {
+					try {
+						return (long) handle.invokeExact((Object) input);
+					}
+					catch (Throwable e) {
+						throw rethrow(e);
+					}
+				}
+			}, ascending);
+		}
+		if (fieldType == double.class || fieldType == float.class) {
+			final MethodHandle handle = getter.asType(MethodType.methodType(double.class, Object.class));
+			return new DoubleSortDescriptor<InputType>(new DoubleTransformer<InputType>() {
+
+				@Override
+				public double transform(InputType input) {
+					try {
+						return (double) handle.invokeExact((Object) input);
+					}
+					catch (Throwable e) {
+						throw rethrow(e);
+					}
+				}
+			}, ascending);
+		}
+		FieldSortDescriptor<InputType> descriptor = new FieldSortDescriptor<InputType>(fieldName, ascending);
+		descriptor._lastGetter = new Getter(type, getter.asType(BOXED_GETTER));
+		descriptor._getters.put(type, descriptor._lastGetter);
+		return descriptor;
+	}
+
+	/**
+	 * Construct a <code>FieldSortDescriptor</code> instance that sorts elements
+	 * ascending.
+	 * 
+	 * @param fieldName the name of the field
+	 */
+	public FieldSortDescriptor(String fieldName) {
+		this(fieldName, true);
+	}
+
+	/**
+	 * Construct a <code>FieldSortDescriptor</code> instance.
+	 * 
+	 * @param fieldName the name of the field
+	 * @param ascending the sorting ordering
+	 */
+	public FieldSortDescriptor(String fieldName, boolean ascending) {
+		super(ascending);
+		_fieldName = fieldName;
+		_getters = new ConcurrentHashMap<Class<?>, Getter>();
+	}
+
+	/**
+	 * Get the name of the field that is used to sort.
+	 * 
+	 * @return the field name
+	 */
+	public String getFieldName() {
+		return _fieldName;
+	}
+
+	@Override
+	public Comparable<?> transform(InputType input) {
+		if (input == null) {
+			return null;
+		}
+		MethodHandle handle = getGetter(input.getClass())._handle;
+		if (handle == null) {
+			return null;
+		}
+		try {
+			return (Comparable<?>) handle.invokeExact((Object) input);
+		}
+		catch (Throwable e) {
+			throw rethrow(e);
+		}
+	}
+
+	/**
+	 * Get the cached getter of the given class. The getter of the last class is
+	 * checked first because the elements to sort usually share the same class.
+	 * The field that is not found, can not be accessed, or is not comparable is
+	 * cached as a getter without the handle.
+	 * 
+	 * @param type the runtime class of the element
+	 * @return the getter of the field
+	 */
+	private Getter getGetter(Class<?> type) {
+		Getter getter = _lastGetter;
+		if (getter != null && getter._type == type) {
+			return getter;
+		}
+		getter = _getters.get(type);
+		if (getter == null) {
+			MethodHandle handle = null;
+			Field field = findField(type, _fieldName);
+			if (field != null && isComparable(field.getType())) {
+				try {
+					handle = unreflect(field).asType(BOXED_GETTER);
+				}
+				catch (IllegalArgumentException e) {
+					// The inaccessible field is treated as a missing one
+				}
+			}
+			getter = new Getter(type, handle);
+			Getter existing = _getters.putIfAbsent(type, getter);
+			getter = existing != null? existing : getter;
+		}
+		_lastGetter = getter;
+		return getter;
+	}
+
+	/**
+	 * Find the instance field with the given name in the class or its superclasses.
+	 * 
+	 * @param type the class to find the field
+	 * @param fieldName the name of the field
+	 * @return the field; <code>null</code> if not found
+	 */
+	private static Field findField(Class<?> type, String fieldName) {
+		for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+			for (Field field : current.getDeclaredFields()) {
+				if (field.getName().equals(fieldName) && !Modifier.isStatic(field.getModifiers())) {
+					return field;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Check whether the values of the given field type can be the sort keys, i.e.,
+	 * the type is primitive or {@link Comparable}.
+	 * 
+	 * @param fieldType the type of the field
+	 * @return true if the values are comparable
+	 */
+	private static boolean isComparable(Class<?> fieldType) {
+		return fieldType.isPrimitive() || Comparable.class.isAssignableFrom(fieldType);
+	}
+
+	/**
+	 * Create the method handle to read the given field.
+	 * 
+	 * @param field the field to read
+	 * @return the getter handle
+	 * @throws IllegalArgumentException if the field can not be accessed
+	 */
+	private static MethodHandle unreflect(Field field) {
+		try {
+			field.setAccessible(true);
+			return MethodHandles.lookup().unreflectGetter(field);
+		}
+		catch (IllegalAccessException | RuntimeException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	/**
+	 * Rethrow the given throwable from a method handle as an unchecked one.
+	 * 
+	 * @param throwable the throwable to rethrow
+	 * @return never returns
+	 */
+	private static RuntimeException rethrow(Throwable throwable) {
+		if (throwable instanceof RuntimeException) {
+			throw (RuntimeException) throwable;
+		}
+		if (throwable instanceof Error) {
+			throw (Error) throwable;
+		}
+		throw new IllegalStateException(throwable);
+	}
+
+	/**
+	 * This class holds the getter handle of a field resolved for a class.
+	 */
+	private static class Getter {
+
+		private final Class<?> _type;
+		private final MethodHandle _handle;
+
+		/**
+		 * Construct a <code>Getter</code> instance.
+		 * 
+		 * @param type the class that the getter is resolved for
+		 * @param handle the getter handle; <code>null</code> if the field is not found
+		 */
+		private Getter(Class<?> type, MethodHandle handle) {
+			_type = type;
+			_handle = handle;
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/* FixedWidthKeys.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+/**
+ * This class stores the sort keys of a descriptor as fixed-width unsigned
+ * <code>long</code> values, i.e., comparing the values as unsigned numbers
+ * gives the same ordering as comparing the original keys with the sort
+ * direction applied. The <code>null</code> keys are flagged separately.
+ * The keys in this form can be sorted with the radix sort.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+final class FixedWidthKeys {
+
+	private long[] _keys;
+	private boolean[] _nulls;
+	private boolean _nullFirst;
+
+	/**
+	 * Convert the given keys to the fixed-width form if all the non-null keys are
+	 * booleans, characters, integral numbers, floating-point numbers, or constants of
+	 * the same enum type. Mixed key types are not converted because they can not be
+	 * compared with each other either.
+	 * 
+	 * @param keys the keys to convert
+	 * @param direction <code>1</code> for ascending and <code>-1</code> for descending
+	 * @return the fixed-width keys; <code>null</code> if the keys are not fixed-width
+	 */
+	static FixedWidthKeys of(Comparable<?>[] keys, int direction) {
+		Class<?> keyType = null;
+		boolean[] nulls = null;
+		long[] values = new long[keys.length];
+		for (int index = 0; index < keys.length; index++) {
+			Comparable<?> key = keys[index];
+			if (key == null) {
+				nulls = nulls != null? nulls : new boolean[keys.length];
+				nulls[index] = true;
+				continue;
+			}
+			Class<?> type = key instanceof Enum? ((Enum<?>) key).getDeclaringClass() : key.getClass();
+			if (keyType == null) {
+				keyType = type;
+			}
+			if (keyType != type) {
+				return null;
+			}
+			if (key instanceof Enum) {
+				values[index] = ((Enum<?>) key).ordinal();
+			}
+			else if (key instanceof Boolean) {
+				values[index] = ((Boolean) key).booleanValue()? 1L : 0L;
+			}
+			else if (key instanceof Character) {
+				values[index] = ((Character) key).charValue();
+			}
+			else if (key instanceof Integer || key instanceof Long || key instanceof Short || key instanceof Byte) {
+				values[index] = fromSigned(((Number) key).longValue());
+			}
+			else if (key instanceof Double || key instanceof Float) {
+				values[index] = fromDouble(((Number) key).doubleValue());
+			}
+			else {
+				return null;
+			}
+		}
+		return new FixedWidthKeys(values, nulls, direction);
+	}
+
+	/**
+	 * Convert a signed value to the unsigned form that keeps the ordering.
+	 * 
+	 * @param value the signed value
+	 * @return the unsigned form
+	 */
+	static long fromSigned(long value) {
+		return value ^ Long.MIN_VALUE;
+	}
+
+	/**
+	 * Convert a floating-point value to the unsigned form that keeps the ordering
+	 * of {@link Double#compare(double, double)}.
+	 * 
+	 * @param value the floating-point value
+	 * @return the unsigned form
+	 */
+	static long fromDouble(double value) {
+		long bits = Double.doubleToLongBits(value);
+		return bits < 0? ~bits : bits ^ Long.MIN_VALUE;
+	}
+
+	/**
+	 * Construct a <code>FixedWidthKeys</code> instance with the unsigned keys in
+	 * ascending form and the <code>null</code> flags.
+	 * 
+	 * @param keys the unsigned keys in ascending form
+	 * @param nulls the <code>null</code> flags; <code>null</code> if there is no null key
+	 * @param direction <code>1</code> for ascending and <code>-1</code> for descending
+	 */
+	FixedWidthKeys(long[] keys, boolean[] nulls, int direction) {
+		if (direction < 0) {
+			for (int index = 0; index < keys.length; index++) {
+				keys[index] = ~keys[index];
+			}
+		}
+		_keys = keys;
+		_nulls = nulls;
+		_nullFirst = direction > 0;
+	}
+
+	/**
+	 * Get the unsigned keys with the sort direction applied.
+	 * 
+	 * @return the unsigned keys
+	 */
+	long[] getKeys() {
+		return _keys;
+	}
+
+	/**
+	 * Get the <code>null</code> flags.
+	 * 
+	 * @return the flags; <code>null</code> if there is no null key
+	 */
+	boolean[] getNulls() {
+		return _nulls;
+	}
+
+	/**
+	 * Check whether the <code>null</code> keys are placed first.
+	 * 
+	 * @return {@code true} if the <code>null</code> keys are placed first
+	 */
+	boolean isNullFirst() {
+		return _nullFirst;
+	}
+}
@@ -0,0 +1,149 @@
+/* IndexSort.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.util.Arrays;
+
+/**
+ * This class provides a stable merge sort over an array of element indexes.
+ * Sorting the indexes instead of the elements avoids boxing and moving the
+ * elements until the final permutation is known.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+final class IndexSort {
+
+	private static final int INSERTION_SORT_THRESHOLD = 32;
+
+	/**
+	 * Prevent from creating an <code>IndexSort</code> instance.
+	 */
+	private IndexSort() {}
+
+	/**
+	 * Create an identity permutation with the given size.
+	 * 
+	 * @param size the number of the indexes
+	 * @return the identity permutation
+	 */
+	static int[] identity(int size) {
+		int[] indexes = new int[size];
+		for (int index = 0; index < size; index++) {
+			indexes[index] = index;
+		}
+		return indexes;
+	}
+
+	/**
+	 * Sort the given indexes with the comparator. The sort is stable, i.e., the
+	 * indexes of the equal elements remain in the same relative ordering.
+	 * 
+	 * @param indexes the indexes to sort
+	 * @param comparator the comparator to compare the elements by index
+	 */
+	static void sort(int[] indexes, IndexComparator comparator) {
+		sort(indexes, 0, indexes.length, comparator);
+	}
+
+	/**
+	 * Sort the indexes in the given range with the comparator. The sort is stable.
+	 * 
+	 * @param indexes the indexes to sort
+	 * @param from the index of the first position to sort (inclusive)
+	 * @param to the index of the last position to sort (exclusive)
+	 * @param comparator the comparator to compare the elements by index
+	 */
+	static void sort(int[] indexes, int from, int to, IndexComparator comparator) {
+		if (to - from < INSERTION_SORT_THRESHOLD) {
+			insertionSort(indexes, from, to, comparator);
+			return;
+		}
+		if (from == 0 && to == indexes.length) {
+			mergeSort(indexes.clone(), indexes, from, to, comparator);
+			return;
+		}
+		int[] range = Arrays.copyOfRange(indexes, from, to);
+		mergeSort(range.clone(), range, 0, range.length, comparator);
+		System.arraycopy(range, 0, indexes, from, range.length);
+	}
+
+	/**
+	 * Sort the range of the source into the destination. Both arrays must contain
+	 * the same indexes in the range before the method is called.
+	 * 
+	 * @param source the source indexes
+	 * @param destination the destination to store the sorted indexes
+	 * @param low the index of the first position to sort (inclusive)
+	 * @param high the index of the last position to sort (exclusive)
+	 * @param comparator the comparator to compare the elements by index
+	 */
+	private static void mergeSort(int[] source, int[] destination, int low, int high, IndexComparator comparator) {
+		int length = high - low;
+		if (length < INSERTION_SORT_THRESHOLD) {
+			insertionSort(destination, low, high, comparator);
+			return;
+		}
+
+		int middle = (low + high) >>> 1;
+		mergeSort(destination, source, low, middle, comparator);
+		mergeSort(destination, source, middle, high, comparator);
+
+		// The two halves are already in order, simply copy them
+		if (comparator.compare(source[middle - 1], source[middle]) <= 0) {
+			System.arraycopy(source, low, destination, low, length);
+			return;
+		}
+		for (int index = low, left = low, right = middle; index < high; index++) {
+			if (right >= high || (left < middle && comparator.compare(source[left], source[right]) <= 0)) {
+				destination[index] = source[left++];
+			}
+			else {
+				destination[index] = source[right++];
+			}
+		}
+	}
+
+	/**
+	 * Sort the indexes in the given range with insertion sort.
+	 * 
+	 * @param indexes the indexes to sort
+	 * @param low the index of the first position to sort (inclusive)
+	 * @param high the index of the last position to sort (exclusive)
+	 * @param comparator the comparator to compare the elements by index
+	 */
+	private static void insertionSort(int[] indexes, int low, int high, IndexComparator comparator) {
+		for (int current = low + 1; current < high; current++) {
+			int index = indexes[current];
+			int position = current - 1;
+			while (position >= low && comparator.compare(indexes[position], index) > 0) {
+				indexes[position + 1] = indexes[position];
+				position--;
+			}
+			indexes[position + 1] = index;
+		}
+	}
+}
@@ -0,0 +1,232 @@
+/* InstrumentedSort.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class instruments the sorts of a compiled chain and reports the statistics
+ * to a {@link SortListener}. The descriptors are wrapped to count their actual
+ * transform invocations. The comparison sort of {@link CompiledSortDescriptors#sort(List)}
+ * also counts the comparisons and the ties of each descriptor; the other engines
+ * run unchanged on the counting chain and report only the transforms and the
+ * elapsed time. It is a separate path, so the sorts without a listener pay
+ * nothing for it.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+final class InstrumentedSort {
+
+	/**
+	 * Sort the given items and report the statistics to the listener.
+	 * 
+	 * @param items the items to sort
+	 * @param descriptors the compiled sort descriptors
+	 * @param listener the listener to report to
+	 * @param <InputType> the type of the elements to be sorted
+	 */
+	static <InputType> void sort(List<InputType> items, CompiledSortDescriptors<InputType> descriptors, SortListener listener) {
+		long start = System.nanoTime();
+		Object[] snapshot = items.toArray();
+		AtomicLongArray transforms = new AtomicLongArray(descriptors.size());
+		CompiledSortDescriptors<InputType> counting = descriptors.counting(transforms);
+		SortKeyColumn[] columns = new SortKeyColumn[descriptors.size()];
+		for (int index = 0; index < columns.length; index++) {
+			columns[index] = SortKeyColumn.extract(counting.getDescriptor(index), counting.getDirection(index), snapshot);
+		}
+		long extracted = System.nanoTime();
+
+		CountingComparator comparator = new CountingComparator(columns);
+		int[] indexes = IndexSort.identity(snapshot.length);
+		IndexSort.sort(indexes, comparator);
+		SortUtils.reorder(items, snapshot, indexes);
+		long end = System.nanoTime();
+		listener.sortCompleted(new SortStatistics(chainOf(descriptors), snapshot.length, comparator._comparisons, toArray(transforms), comparator._ties, extracted - start, end - start));
+	}
+
+	/**
+	 * Run the given engine on the counting copy of the chain and report the
+	 * transforms and the elapsed time to the listener.
+	 * 
+	 * @param descriptors the compiled sort descriptors
+	 * @param size the number of the elements to sort
+	 * @param listener the listener to report to
+	 * @param engine the engine to run
+	 * @param <InputType> the type of the elements to be sorted
+	 * @param <ResultType> the type of the result of the engine
+	 * @return the result of the engine
+	 */
+	static <InputType, ResultType> ResultType run(CompiledSortDescriptors<InputType> descriptors, int size, SortListener listener, Engine<InputType, ResultType> engine) {
+		long start = System.nanoTime();
+		AtomicLongArray transforms = new AtomicLongArray(descriptors.size());
+		ResultType result = engine.run(descriptors.counting(transforms));
+		long end = System.nanoTime();
+		listener.sortCompleted(new SortStatistics(chainOf(descriptors), size, SortStatistics.UNKNOWN, toArray(transforms), null, SortStatistics.UNKNOWN, end - start));
+		return result;
+	}
+
+	/**
+	 * Wrap the given descriptor to count its transform invocations. The primitive
+	 * descriptors are wrapped by the same kind of the descriptors, so the engines
+	 * still extract their keys without boxing.
+	 * 
+	 * @param descriptor the descriptor to wrap
+	 * @param ascending the compiled sorting ordering
+	 * @param transforms the counters of the transform invocations
+	 * @param index the position of the descriptor in the chain
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the counting descriptor
+	 */
+	static <InputType> SortDescriptor<InputType> counting(final SortDescriptor<InputType> descriptor, boolean ascending, final AtomicLongArray transforms, final int index) {
+		if (descriptor instanceof IntSortDescriptor) {
+			final IntSortDescriptor<InputType> primitive = (IntSortDescriptor<InputType>) descriptor;
+			return new IntSortDescriptor<InputType>(new IntTransformer<InputType>() {
+
+				@Override
+				public int transform(InputType input) {
+					transforms.incrementAndGet(index);
+					return primitive.transformToInt(input);
+				}
+			}, ascending);
+		}
+		if (descriptor instanceof LongSortDescriptor) {
+			final LongSortDescriptor<InputType> primitive = (LongSortDescriptor<InputType>) descriptor;
+			return new LongSortDescriptor<InputType>(new LongTransformer<InputType>() {
+
+				@Override
+				public long transform(InputType input) {
+					transforms.incrementAndGet(index);
+					return primitive.transformToLong(input);
+				}
+			}, ascending);
+		}
+		if (descriptor instanceof DoubleSortDescriptor) {
+			final DoubleSortDescriptor<InputType> primitive = (DoubleSortDescriptor<InputType>) descriptor;
+			return new DoubleSortDescriptor<InputType>(new DoubleTransformer<InputType>() {
+
+				@Override
+				public double transform(InputType input) {
+					transforms.incrementAndGet(index);
+					return primitive.transformToDouble(input);
+				}
+			}, ascending);
+		}
+		return new AbstractSortDescriptor<InputType>(ascending) {
+
+			@Override
+			public Comparable<?> transform(InputType input) {
+				transforms.incrementAndGet(index);
+				return descriptor.transform(input);
+			}
+		};
+	}
+
+	/**
+	 * Get the original descriptors of the given chain.
+	 * 
+	 * @param descriptors the compiled sort descriptors
+	 * @return the array of the descriptors
+	 */
+	private static SortDescriptor<?>[] chainOf(CompiledSortDescriptors<?> descriptors) {
+		SortDescriptor<?>[] chain = new SortDescriptor<?>[descriptors.size()];
+		for (int index = 0; index < chain.length; index++) {
+			chain[index] = descriptors.getDescriptor(index);
+		}
+		return chain;
+	}
+
+	/**
+	 * Copy the values of the given counters.
+	 * 
+	 * @param counters the counters to copy
+	 * @return the values of the counters
+	 */
+	private static long[] toArray(AtomicLongArray counters) {
+		long[] values = new long[counters.length()];
+		for (int index = 0; index < values.length; index++) {
+			values[index] = counters.get(index);
+		}
+		return values;
+	}
+
+	/**
+	 * Prevent from creating <code>InstrumentedSort</code> instance.
+	 */
+	private InstrumentedSort() {}
+
+	/**
+	 * This interface runs a sort engine on a compiled chain.
+	 * 
+	 * @param <InputType> the type of the elements to be sorted
+	 * @param <ResultType> the type of the result of the engine
+	 */
+	interface Engine<InputType, ResultType> {
+
+		/**
+		 * Run the engine on the given chain.
+		 * 
+		 * @param descriptors the compiled sort descriptors
+		 * @return the result of the engine
+		 */
+		ResultType run(CompiledSortDescriptors<InputType> descriptors);
+	}
+
+	/**
+	 * This class compares the elements with the key columns and counts the
+	 * comparisons and the ties of each column.
+	 */
+	private static class CountingComparator implements IndexComparator {
+
+		private SortKeyColumn[] _columns;
+		private long _comparisons;
+		private long[] _ties;
+
+		/**
+		 * Construct a <code>CountingComparator</code> instance.
+		 * 
+		 * @param columns the key columns in the descriptor ordering
+		 */
+		private CountingComparator(SortKeyColumn[] columns) {
+			_columns = columns;
+			_ties = new long[columns.length];
+		}
+
+		@Override
+		public int compare(int index1, int index2) {
+			_comparisons++;
+			for (int index = 0; index < _columns.length; index++) {
+				int result = _columns[index].compare(index1, index2);
+				if (result != 0) {
+					return result;
+				}
+				_ties[index]++;
+			}
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/* IntKeyColumn.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+/**
+ * This class stores the precomputed primitive <code>int</code> sort keys of an
+ * {@link IntSortDescriptor}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+class IntKeyColumn<InputType> extends SortKeyColumn {
+
+	private IntSortDescriptor<InputType> _descriptor;
+	private int[] _keys;
+	private int _direction;
+
+	/**
+	 * Construct an empty <code>IntKeyColumn</code> instance with the sort
+	 * descriptor and the direction multiplier.
+	 * 
+	 * @param descriptor the sort descriptor to extract the keys
+	 * @param size the number of the elements
+	 * @param direction <code>1</code> for ascending and <code>-1</code> for descending
+	 */
+	IntKeyColumn(IntSortDescriptor<InputType> descriptor, int size, int direction) {
+		_descriptor = descriptor;
+		_keys = new int[size];
+		_direction = direction;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	void extract(Object[] items, int from, int to) {
+		for (int index = from; index < to; index++) {
+			_keys[index] = _descriptor.transformToInt((InputType) items[index]);
+		}
+	}
+
+	@Override
+	public int compare(int index1, int index2) {
+		return Integer.compare(_keys[index1], _keys[index2]) * _direction;
+	}
+
+	@Override
+	int compare(int index1, SortKeyColumn other, int index2) {
+		return Integer.compare(_keys[index1], ((IntKeyColumn<?>) other)._keys[index2]) * _direction;
+	}
+
+	@Override
+	FixedWidthKeys toFixedWidthKeys() {
+		long[] keys = new long[_keys.length];
+		for (int index = 0; index < keys.length; index++) {
+			keys[index] = FixedWidthKeys.fromSigned(_keys[index]);
+		}
+		return new FixedWidthKeys(keys, null, _direction);
+	}
+}
@@ -0,0 +1,120 @@
+/* KeyedElement.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+/**
+ * This class holds an element with its sort keys that are extracted lazily,
+ * i.e., the key of a descriptor is extracted only if all the keys of the
+ * previous descriptors are equal to the other element. The elements with the
+ * equal keys are ordered by their sequences. The instance can be reset to hold
+ * another element to avoid allocating an instance per element.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ * @param <InputType> the type of the element
+ */
+class KeyedElement<InputType> {
+
+	private InputType _item;
+	private long _sequence;
+	private int _extracted;
+	private Comparable<?>[] _keys;
+
+	/**
+	 * Compare the given two elements with the compiled sort descriptors; the
+	 * elements with the equal keys are ordered by their sequences.
+	 * 
+	 * @param element1 the first element
+	 * @param element2 the second element
+	 * @param descriptors the compiled sort descriptors
+	 * @param <InputType> the type of the elements
+	 * @return the compare result
+	 */
+	static <InputType> int compare(KeyedElement<InputType> element1, KeyedElement<InputType> element2, CompiledSortDescriptors<InputType> descriptors) {
+		for (int index = 0; index < descriptors.size(); index++) {
+			int result = SortUtils.compareKeys(element1.getKey(descriptors, index), element2.getKey(descriptors, index));
+			if (result != 0) {
+				return result * descriptors.getDirection(index);
+			}
+		}
+		return Long.compare(element1._sequence, element2._sequence);
+	}
+
+	/**
+	 * Construct an empty <code>KeyedElement</code> instance.
+	 * 
+	 * @param size the number of the sort descriptors
+	 */
+	KeyedElement(int size) {
+		_keys = new Comparable<?>[size];
+	}
+
+	/**
+	 * Hold the given element and forget the keys of the previous one.
+	 * 
+	 * @param item the element to hold
+	 * @param sequence the sequence to order the elements with the equal keys
+	 */
+	void reset(InputType item, long sequence) {
+		_item = item;
+		_sequence = sequence;
+		_extracted = 0;
+	}
+
+	/**
+	 * Get the held element.
+	 * 
+	 * @return the element
+	 */
+	InputType getItem() {
+		return _item;
+	}
+
+	/**
+	 * Get the sequence of the held element.
+	 * 
+	 * @return the sequence
+	 */
+	long getSequence() {
+		return _sequence;
+	}
+
+	/**
+	 * Get the key of the sort descriptor at the given position. The keys up to the
+	 * position are extracted if not yet.
+	 * 
+	 * @param descriptors the compiled sort descriptors
+	 * @param index the position of the sort descriptor
+	 * @return the sort key
+	 */
+	private Comparable<?> getKey(CompiledSortDescriptors<InputType> descriptors, int index) {
+		while (_extracted <= index) {
+			_keys[_extracted] = descriptors.getDescriptor(_extracted).transform(_item);
+			_extracted++;
+		}
+		return _keys[index];
+	}
+}
@@ -0,0 +1,177 @@
+/* MergingIterator.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * This class merges the iterators whose elements are already sorted by the same
+ * descriptor chain into one sorted iteration with a binary heap of the heads of
+ * the iterators. Only the head of each iterator is held, so the memory is O(N)
+ * for N iterators and the time is O(log N) per element. The equal elements are
+ * taken from the iterators in the given order, i.e., the merge is stable if each
+ * iterator is stable. The iteration stops after the given limit without reading
+ * the rest of the sources.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ * @param <InputType> the type of the elements to be merged
+ */
+class MergingIterator<InputType> implements Iterator<InputType> {
+
+	private CompiledSortDescriptors<InputType> _descriptors;
+	private List<? extends Iterator<? extends InputType>> _sources;
+	private KeyedElement<InputType>[] _heap;
+	private int _size;
+	private long _remaining;
+	private boolean _initialized;
+
+	/**
+	 * Construct a <code>MergingIterator</code> instance.
+	 * 
+	 * @param descriptors the compiled sort descriptors
+	 * @param sources the sorted iterators to merge
+	 * @param limit the maximum number of the elements to iterate
+	 */
+	@SuppressWarnings("unchecked")
+	MergingIterator(CompiledSortDescriptors<InputType> descriptors, List<? extends Iterator<? extends InputType>> sources, long limit) {
+		_descriptors = descriptors;
+		_sources = sources;
+		_heap = (KeyedElement<InputType>[]) new KeyedElement<?>[sources.size()];
+		_remaining = limit;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (!_initialized) {
+			initialize();
+		}
+		return _size > 0 && _remaining > 0;
+	}
+
+	@Override
+	public InputType next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		KeyedElement<InputType> head = _heap[0];
+		InputType item = head.getItem();
+		_remaining--;
+		if (_remaining > 0) {
+			Iterator<? extends InputType> source = _sources.get((int)head.getSequence());
+			if (source.hasNext()) {
+				head.reset(source.next(), head.getSequence());
+			}
+			else {
+				_heap[0] = _heap[--_size];
+				_heap[_size] = null;
+			}
+			if (_size > 0) {
+				siftDown(0);
+			}
+		}
+		return item;
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Take the first element of each source into the heap. It is deferred to the
+	 * first access, so no source is read if the iterator is never used.
+	 */
+	private void initialize() {
+		_initialized = true;
+		if (_remaining == 0) {
+			return;
+		}
+		for (int index = 0; index < _sources.size(); index++) {
+			Iterator<? extends InputType> source = _sources.get(index);
+			if (source.hasNext()) {
+				KeyedElement<InputType> head = new KeyedElement<InputType>(_descriptors.size());
+				head.reset(source.next(), index);
+				_heap[_size] = head;
+				siftUp(_size++);
+			}
+		}
+	}
+
+	/**
+	 * Check whether the first head is ordered before the second one.
+	 * 
+	 * @param head1 the first head
+	 * @param head2 the second head
+	 * @return {@code true} if the first head is ordered before the second one
+	 */
+	private boolean isBefore(KeyedElement<InputType> head1, KeyedElement<InputType> head2) {
+		return KeyedElement.compare(head1, head2, _descriptors) < 0;
+	}
+
+	/**
+	 * Move the head at the given position up until its parent is ordered before it.
+	 * 
+	 * @param position the position of the head
+	 */
+	private void siftUp(int position) {
+		KeyedElement<InputType> head = _heap[position];
+		while (position > 0) {
+			int parent = (position - 1) >>> 1;
+			if (!isBefore(head, _heap[parent])) {
+				break;
+			}
+			_heap[position] = _heap[parent];
+			position = parent;
+		}
+		_heap[position] = head;
+	}
+
+	/**
+	 * Move the head at the given position down until its children are ordered
+	 * after it.
+	 * 
+	 * @param position the position of the head
+	 */
+	private void siftDown(int position) {
+		KeyedElement<InputType> head = _heap[position];
+		int half = _size >>> 1;
+		while (position < half) {
+			int child = (position << 1) + 1;
+			if (child + 1 < _size && isBefore(_heap[child + 1], _heap[child])) {
+				child++;
+			}
+			if (!isBefore(_heap[child], head)) {
+				break;
+			}
+			_heap[position] = _heap[child];
+			position = child;
+		}
+		_heap[position] = head;
+	}
+}
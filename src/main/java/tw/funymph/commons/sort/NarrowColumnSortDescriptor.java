@@ -0,0 +1,54 @@
+/* NarrowColumnSortDescriptor.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+/**
+ * This abstract class describes a column whose keys fit in an <code>int</code>,
+ * so {@link ColumnarSort} can pack the keys of the leading column with the row
+ * indexes into <code>long</code> values and sort them without a comparator.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+abstract class NarrowColumnSortDescriptor extends ColumnSortDescriptor {
+
+	/**
+	 * Construct a <code>NarrowColumnSortDescriptor</code> instance with the sorting ordering.
+	 * 
+	 * @param ascending the sorting ordering
+	 */
+	NarrowColumnSortDescriptor(boolean ascending) {
+		super(ascending);
+	}
+
+	/**
+	 * Get the key of the given row as an <code>int</code>.
+	 * 
+	 * @param row the index of the row
+	 * @return the key of the row
+	 */
+	abstract int intKey(int row);
+}
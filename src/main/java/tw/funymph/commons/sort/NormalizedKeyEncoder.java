@@ -0,0 +1,296 @@
+/* NormalizedKeyEncoder.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * This class encodes the sort keys of all the descriptors of a chain into a
+ * single byte array per element, so that comparing two arrays byte by byte as
+ * unsigned values gives the same result as comparing the elements with the
+ * chain. The keys can be cached or shipped to another process and compared
+ * without the descriptors, and sorted with plain byte comparisons.
+ * <p>
+ * Each key starts with a marker byte that places null before the other values.
+ * The numbers are written big-endian with the sign bit flipped, the doubles and
+ * the floats follow {@link Double#compare(double, double)}, the enums are written
+ * by their ordinals, and the dates by their times. A string is written char by
+ * char with a prefix-free variable-length code that keeps the ordering of
+ * {@link String#compareTo(String)} and ends with a zero byte, so a string sorts
+ * before the strings it is a prefix of. All the bytes of a descending key,
+ * including the marker, are inverted. The other kinds of keys cannot be encoded.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ * @param <InputType> the type of the elements
+ */
+public final class NormalizedKeyEncoder<InputType> {
+
+	private static final int NULL = 0x00;
+	private static final int NOT_NULL = 0x01;
+	private static final int STRING_END = 0x00;
+
+	private final CompiledSortDescriptors<InputType> _descriptors;
+
+	/**
+	 * Compare the given two encoded keys byte by byte as unsigned values.
+	 * 
+	 * @param key1 the first key
+	 * @param key2 the second key
+	 * @return the compare result
+	 */
+	public static int compare(byte[] key1, byte[] key2) {
+		return compare(key1, key2, 0);
+	}
+
+	/**
+	 * Get the first eight bytes of the given encoded key as a long value, padded with
+	 * zeros if the key is shorter. Comparing the prefixes with
+	 * {@link Long#compareUnsigned(long, long)} gives the same result as comparing the
+	 * first eight bytes of the keys.
+	 * 
+	 * @param key the encoded key
+	 * @return the prefix of the key
+	 */
+	public static long prefix(byte[] key) {
+		long prefix = 0;
+		for (int index = 0; index < 8; index++) {
+			prefix = (prefix << 8) | (index < key.length? key[index] & 0xFF : 0);
+		}
+		return prefix;
+	}
+
+	/**
+	 * Compare the given two encoded keys byte by byte as unsigned values from the
+	 * given offset.
+	 * 
+	 * @param key1 the first key
+	 * @param key2 the second key
+	 * @param from the offset to start comparing
+	 * @return the compare result
+	 */
+	static int compare(byte[] key1, byte[] key2, int from) {
+		int length = Math.min(key1.length, key2.length);
+		for (int index = from; index < length; index++) {
+			int result = (key1[index] & 0xFF) - (key2[index] & 0xFF);
+			if (result != 0) {
+				return result;
+			}
+		}
+		return Integer.compare(key1.length, key2.length);
+	}
+
+	/**
+	 * Construct a <code>NormalizedKeyEncoder</code> instance.
+	 * 
+	 * @param descriptors the compiled sort descriptors
+	 * @throws IllegalArgumentException if {@code descriptors} is null
+	 */
+	public NormalizedKeyEncoder(CompiledSortDescriptors<InputType> descriptors) {
+		if (descriptors == null) {
+			throw new IllegalArgumentException();
+		}
+		_descriptors = descriptors;
+	}
+
+	/**
+	 * Encode the sort keys of the given element.
+	 * 
+	 * @param item the element
+	 * @return the encoded key
+	 * @throws IllegalArgumentException if any sort key cannot be encoded
+	 */
+	public byte[] encode(InputType item) {
+		KeyWriter writer = new KeyWriter();
+		encode(item, writer);
+		return writer.toByteArray();
+	}
+
+	/**
+	 * Encode the sort keys of the given element with the writer. The writer is
+	 * cleared first, so it can be reused for the elements.
+	 * 
+	 * @param item the element
+	 * @param writer the writer to write the key
+	 * @throws IllegalArgumentException if any sort key cannot be encoded
+	 */
+	void encode(InputType item, KeyWriter writer) {
+		writer.clear();
+		for (int index = 0; index < _descriptors.size(); index++) {
+			int from = writer.size();
+			writeKey(_descriptors.getDescriptor(index).transform(item), writer);
+			if (_descriptors.getDirection(index) < 0) {
+				writer.invert(from);
+			}
+		}
+	}
+
+	/**
+	 * Write the given key in the ascending form.
+	 * 
+	 * @param key the key to write
+	 * @param writer the writer to write the key
+	 * @throws IllegalArgumentException if the key cannot be encoded
+	 */
+	private static void writeKey(Comparable<?> key, KeyWriter writer) {
+		if (key == null) {
+			writer.write(NULL);
+			return;
+		}
+		writer.write(NOT_NULL);
+		if (key instanceof String) {
+			writeString((String) key, writer);
+		}
+		else if (key instanceof Integer) {
+			writer.writeLong((Integer) key ^ Integer.MIN_VALUE, 4);
+		}
+		else if (key instanceof Long) {
+			writer.writeLong(FixedWidthKeys.fromSigned((Long) key), 8);
+		}
+		else if (key instanceof Double || key instanceof Float) {
+			writer.writeLong(FixedWidthKeys.fromDouble(((Number) key).doubleValue()), 8);
+		}
+		else if (key instanceof Boolean) {
+			writer.write((Boolean) key? 1 : 0);
+		}
+		else if (key instanceof Enum) {
+			writer.writeLong(((Enum<?>) key).ordinal(), 4);
+		}
+		else if (key instanceof Character) {
+			writer.writeLong((Character) key, 2);
+		}
+		else if (key instanceof Short) {
+			writer.writeLong((Short) key ^ Short.MIN_VALUE, 2);
+		}
+		else if (key instanceof Byte) {
+			writer.writeLong((Byte) key ^ Byte.MIN_VALUE, 1);
+		}
+		else if (key.getClass() == Date.class) {
+			writer.writeLong(FixedWidthKeys.fromSigned(((Date) key).getTime()), 8);
+		}
+		else {
+			throw new IllegalArgumentException();
+		}
+	}
+
+	/**
+	 * Write the given string with one byte for the chars below 0x7F, two bytes for
+	 * the chars below 0x4000, and three bytes for the others. The first byte of a
+	 * char is never zero and is ordered by the char value, so the zero byte that
+	 * ends the string sorts before any char.
+	 * 
+	 * @param value the string to write
+	 * @param writer the writer to write the string
+	 */
+	private static void writeString(String value, KeyWriter writer) {
+		for (int index = 0; index < value.length(); index++) {
+			char c = value.charAt(index);
+			if (c < 0x7F) {
+				writer.write(c + 1);
+			}
+			else if (c < 0x4000) {
+				writer.write(0x80 | (c >>> 8));
+				writer.write(c);
+			}
+			else {
+				writer.write(0xC0);
+				writer.write(c >>> 8);
+				writer.write(c);
+			}
+		}
+		writer.write(STRING_END);
+	}
+
+	/**
+	 * This class is a growable byte buffer to write the encoded keys.
+	 */
+	static class KeyWriter {
+
+		private byte[] _bytes = new byte[32];
+		private int _size;
+
+		/**
+		 * Write the lowest byte of the given value.
+		 * 
+		 * @param value the value to write
+		 */
+		void write(int value) {
+			if (_size == _bytes.length) {
+				_bytes = Arrays.copyOf(_bytes, _size << 1);
+			}
+			_bytes[_size++] = (byte) value;
+		}
+
+		/**
+		 * Write the lowest bytes of the given value big-endian.
+		 * 
+		 * @param value the value to write
+		 * @param length the number of the bytes to write
+		 */
+		void writeLong(long value, int length) {
+			for (int shift = (length - 1) << 3; shift >= 0; shift -= 8) {
+				write((int) (value >>> shift));
+			}
+		}
+
+		/**
+		 * Invert the bytes from the given offset to the end.
+		 * 
+		 * @param from the offset to start inverting
+		 */
+		void invert(int from) {
+			for (int index = from; index < _size; index++) {
+				_bytes[index] = (byte) ~_bytes[index];
+			}
+		}
+
+		/**
+		 * Remove all the written bytes.
+		 */
+		void clear() {
+			_size = 0;
+		}
+
+		/**
+		 * Get the number of the written bytes.
+		 * 
+		 * @return the number of the bytes
+		 */
+		int size() {
+			return _size;
+		}
+
+		/**
+		 * Copy the written bytes.
+		 * 
+		 * @return the written bytes
+		 */
+		byte[] toByteArray() {
+			return Arrays.copyOf(_bytes, _size);
+		}
+	}
+}
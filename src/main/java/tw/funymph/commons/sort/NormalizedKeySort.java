@@ -0,0 +1,77 @@
+/* NormalizedKeySort.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+/**
+ * This class sorts the elements by their normalized keys encoded with
+ * {@link NormalizedKeyEncoder}. The first eight bytes of each key are packed into
+ * a long value, so most comparisons are a single unsigned long comparison and the
+ * rest of the bytes are compared only if the prefixes are equal. The sort is stable.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+final class NormalizedKeySort {
+
+	private static final int PREFIX_LENGTH = 8;
+
+	/**
+	 * Get the sorted indexes of the given elements.
+	 * 
+	 * @param items the elements to sort
+	 * @param encoder the encoder of the normalized keys
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the sorted indexes
+	 * @throws IllegalArgumentException if any sort key cannot be encoded
+	 */
+	@SuppressWarnings("unchecked")
+	static <InputType> int[] sortedIndexes(Object[] items, NormalizedKeyEncoder<InputType> encoder) {
+		final byte[][] keys = new byte[items.length][];
+		final long[] prefixes = new long[items.length];
+		NormalizedKeyEncoder.KeyWriter writer = new NormalizedKeyEncoder.KeyWriter();
+		for (int index = 0; index < items.length; index++) {
+			encoder.encode((InputType) items[index], writer);
+			keys[index] = writer.toByteArray();
+			prefixes[index] = NormalizedKeyEncoder.prefix(keys[index]);
+		}
+
+		int[] indexes = IndexSort.identity(items.length);
+		IndexSort.sort(indexes, new IndexComparator() {
+
+			@Override
+			public int compare(int index1, int index2) {
+				int result = Long.compareUnsigned(prefixes[index1], prefixes[index2]);
+				return result != 0? result : NormalizedKeyEncoder.compare(keys[index1], keys[index2], PREFIX_LENGTH);
+			}
+		});
+		return indexes;
+	}
+
+	/**
+	 * Prevent from creating <code>NormalizedKeySort</code> instance.
+	 */
+	private NormalizedKeySort() {}
+}
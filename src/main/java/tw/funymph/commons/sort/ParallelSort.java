@@ -0,0 +1,256 @@
+/* ParallelSort.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class provides a parallel merge sort over the precomputed keys of a
+ * descriptor chain with a {@link ForkJoinPool}. The keys are extracted in
+ * parallel, the index ranges are sorted independently, and the sorted ranges
+ * are merged by a parallel merge that splits the runs with binary searches.
+ * The merge always takes the element of the left run first when the elements
+ * are equal, so the sort is stable.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+final class ParallelSort {
+
+	private static final int MINIMUM_GRANULARITY = 1 << 6;
+	private static final int TASKS_PER_THREAD = 8;
+
+	/**
+	 * Prevent from creating a <code>ParallelSort</code> instance.
+	 */
+	private ParallelSort() {}
+
+	/**
+	 * Extract the keys of the given elements and sort the indexes of the elements
+	 * in parallel with the given pool.
+	 * 
+	 * @param items the elements to sort
+	 * @param descriptors the compiled sort descriptors
+	 * @param pool the pool to run the tasks
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the sorted indexes
+	 */
+	static <InputType> int[] sortedIndexes(Object[] items, CompiledSortDescriptors<InputType> descriptors, ForkJoinPool pool) {
+		int granularity = Math.max(items.length / (pool.getParallelism() * TASKS_PER_THREAD), MINIMUM_GRANULARITY);
+		SortKeyColumn[] columns = new SortKeyColumn[descriptors.size()];
+		for (int index = 0; index < columns.length; index++) {
+			columns[index] = SortKeyColumn.create(descriptors.getDescriptor(index), descriptors.getDirection(index), items.length);
+		}
+		pool.invoke(new ExtractTask(items, columns, 0, items.length, granularity));
+
+		SortKeyTable table = new SortKeyTable(columns, items.length);
+		int[] indexes = IndexSort.identity(items.length);
+		pool.invoke(new SortTask(table, indexes, new int[items.length], 0, items.length, granularity));
+		return indexes;
+	}
+
+	/**
+	 * This task extracts the keys of the elements in a range into the columns.
+	 */
+	@SuppressWarnings("serial")
+	private static class ExtractTask extends RecursiveAction {
+
+		private Object[] _items;
+		private SortKeyColumn[] _columns;
+		private int _from;
+		private int _to;
+		private int _granularity;
+
+		ExtractTask(Object[] items, SortKeyColumn[] columns, int from, int to, int granularity) {
+			_items = items;
+			_columns = columns;
+			_from = from;
+			_to = to;
+			_granularity = granularity;
+		}
+
+		@Override
+		protected void compute() {
+			if (_to - _from <= _granularity) {
+				for (SortKeyColumn column : _columns) {
+					column.extract(_items, _from, _to);
+				}
+				return;
+			}
+			int middle = (_from + _to) >>> 1;
+			invokeAll(new ExtractTask(_items, _columns, _from, middle, _granularity),
+				new ExtractTask(_items, _columns, middle, _to, _granularity));
+		}
+	}
+
+	/**
+	 * This task sorts the indexes in a range with the buffer as the working space.
+	 */
+	@SuppressWarnings("serial")
+	private static class SortTask extends RecursiveAction {
+
+		private IndexComparator _comparator;
+		private int[] _indexes;
+		private int[] _buffer;
+		private int _from;
+		private int _to;
+		private int _granularity;
+
+		SortTask(IndexComparator comparator, int[] indexes, int[] buffer, int from, int to, int granularity) {
+			_comparator = comparator;
+			_indexes = indexes;
+			_buffer = buffer;
+			_from = from;
+			_to = to;
+			_granularity = granularity;
+		}
+
+		@Override
+		protected void compute() {
+			if (_to - _from <= _granularity) {
+				IndexSort.sort(_indexes, _from, _to, _comparator);
+				return;
+			}
+			int middle = (_from + _to) >>> 1;
+			invokeAll(new SortTask(_comparator, _indexes, _buffer, _from, middle, _granularity),
+				new SortTask(_comparator, _indexes, _buffer, middle, _to, _granularity));
+
+			// The two halves are already in order, no need to merge them
+			if (_comparator.compare(_indexes[middle - 1], _indexes[middle]) <= 0) {
+				return;
+			}
+			new MergeTask(_comparator, _indexes, _buffer, _from, middle, middle, _to, _from, _granularity).compute();
+			System.arraycopy(_buffer, _from, _indexes, _from, _to - _from);
+		}
+	}
+
+	/**
+	 * This task stably merges two sorted runs of the source into the destination.
+	 */
+	@SuppressWarnings("serial")
+	private static class MergeTask extends RecursiveAction {
+
+		private IndexComparator _comparator;
+		private int[] _source;
+		private int[] _destination;
+		private int _leftFrom;
+		private int _leftTo;
+		private int _rightFrom;
+		private int _rightTo;
+		private int _position;
+		private int _granularity;
+
+		MergeTask(IndexComparator comparator, int[] source, int[] destination, int leftFrom, int leftTo, int rightFrom, int rightTo, int position, int granularity) {
+			_comparator = comparator;
+			_source = source;
+			_destination = destination;
+			_leftFrom = leftFrom;
+			_leftTo = leftTo;
+			_rightFrom = rightFrom;
+			_rightTo = rightTo;
+			_position = position;
+			_granularity = granularity;
+		}
+
+		@Override
+		protected void compute() {
+			int leftLength = _leftTo - _leftFrom;
+			int rightLength = _rightTo - _rightFrom;
+			if (leftLength + rightLength <= _granularity || leftLength == 0 || rightLength == 0) {
+				merge();
+				return;
+			}
+
+			int leftSplit;
+			int rightSplit;
+			if (leftLength >= rightLength) {
+				// The right elements equal to the pivot must stay after it
+				leftSplit = (_leftFrom + _leftTo) >>> 1;
+				rightSplit = lowerBound(_source[leftSplit], _rightFrom, _rightTo);
+			}
+			else {
+				// The left elements equal to the pivot must stay before it
+				rightSplit = (_rightFrom + _rightTo) >>> 1;
+				leftSplit = upperBound(_source[rightSplit], _leftFrom, _leftTo);
+			}
+			int splitPosition = _position + (leftSplit - _leftFrom) + (rightSplit - _rightFrom);
+			invokeAll(new MergeTask(_comparator, _source, _destination, _leftFrom, leftSplit, _rightFrom, rightSplit, _position, _granularity),
+				new MergeTask(_comparator, _source, _destination, leftSplit, _leftTo, rightSplit, _rightTo, splitPosition, _granularity));
+		}
+
+		/**
+		 * Merge the two runs sequentially.
+		 */
+		private void merge() {
+			int left = _leftFrom;
+			int right = _rightFrom;
+			int position = _position;
+			while (left < _leftTo && right < _rightTo) {
+				if (_comparator.compare(_source[left], _source[right]) <= 0) {
+					_destination[position++] = _source[left++];
+				}
+				else {
+					_destination[position++] = _source[right++];
+				}
+			}
+			System.arraycopy(_source, left, _destination, position, _leftTo - left);
+			System.arraycopy(_source, right, _destination, position + (_leftTo - left), _rightTo - right);
+		}
+
+		/**
+		 * Find the first position in the range whose element is not less than the pivot.
+		 */
+		private int lowerBound(int pivot, int from, int to) {
+			while (from < to) {
+				int middle = (from + to) >>> 1;
+				if (_comparator.compare(_source[middle], pivot) < 0) {
+					from = middle + 1;
+				}
+				else {
+					to = middle;
+				}
+			}
+			return from;
+		}
+
+		/**
+		 * Find the first position in the range whose element is greater than the pivot.
+		 */
+		private int upperBound(int pivot, int from, int to) {
+			while (from < to) {
+				int middle = (from + to) >>> 1;
+				if (_comparator.compare(_source[middle], pivot) <= 0) {
+					from = middle + 1;
+				}
+				else {
+					to = middle;
+				}
+			}
+			return from;
+		}
+	}
+}
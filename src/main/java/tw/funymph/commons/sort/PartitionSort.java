@@ -0,0 +1,257 @@
+/* PartitionSort.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class provides a partition-then-sort over a descriptor chain whose leading
+ * key has only a few distinct values, for example a gender, a status, or a region.
+ * The leading keys are counted in one pass, the indexes are scattered into the
+ * partitions in the order of the leading keys, and then each partition is sorted
+ * by the remaining descriptors only. The leading descriptor is never compared in
+ * the sort, and the partitions can be sorted independently in parallel. The
+ * scatter keeps the input order in each partition, so the sort is stable.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+final class PartitionSort {
+
+	/**
+	 * The maximum number of the distinct leading keys to partition the elements.
+	 */
+	static final int MAXIMUM_PARTITIONS = 1 << 8;
+
+	/**
+	 * Prevent from creating a <code>PartitionSort</code> instance.
+	 */
+	private PartitionSort() {}
+
+	/**
+	 * Sort the indexes of the given elements by partitioning them with the leading
+	 * descriptor. The partitions are sorted in parallel with the given pool if the
+	 * number of the elements is not less than the threshold.
+	 * 
+	 * @param items the elements to sort
+	 * @param descriptors the compiled sort descriptors
+	 * @param pool the pool to sort the partitions, or null to sort them sequentially
+	 * @param threshold the minimum number of the elements to sort in parallel
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the sorted indexes, or null if the leading key has too many distinct values
+	 */
+	static <InputType> int[] sortedIndexes(Object[] items, CompiledSortDescriptors<InputType> descriptors, ForkJoinPool pool, int threshold) {
+		int[] partitions = new int[items.length];
+		int count = partition(items, descriptors, partitions);
+		if (count < 0) {
+			return null;
+		}
+
+		int[] offsets = new int[count + 1];
+		for (int partition : partitions) {
+			offsets[partition + 1]++;
+		}
+		for (int partition = 0; partition < count; partition++) {
+			offsets[partition + 1] += offsets[partition];
+		}
+		int[] indexes = new int[items.length];
+		int[] cursors = Arrays.copyOf(offsets, count);
+		for (int index = 0; index < items.length; index++) {
+			indexes[cursors[partitions[index]]++] = index;
+		}
+
+		if (descriptors.size() > 1) {
+			boolean parallel = pool != null && items.length >= threshold && pool.getParallelism() > 1;
+			sortPartitions(items, descriptors.subChain(1), indexes, offsets, parallel? pool : null, threshold);
+		}
+		return indexes;
+	}
+
+	/**
+	 * Assign the rank of the leading key to each element. The elements whose leading
+	 * keys are equal get the same rank.
+	 * 
+	 * @param items the elements to partition
+	 * @param descriptors the compiled sort descriptors
+	 * @param partitions the ranks of the elements as the output
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the number of the partitions, or <code>-1</code> if there are too many distinct keys
+	 */
+	@SuppressWarnings("unchecked")
+	private static <InputType> int partition(Object[] items, CompiledSortDescriptors<InputType> descriptors, int[] partitions) {
+		SortDescriptor<InputType> descriptor = descriptors.getDescriptor(0);
+		Map<Object, Integer> identifiers = new HashMap<Object, Integer>();
+		final List<Comparable<?>> keys = new ArrayList<Comparable<?>>();
+		for (int index = 0; index < items.length; index++) {
+			Comparable<?> key = descriptor.transform((InputType) items[index]);
+			Integer identifier = identifiers.get(key);
+			if (identifier == null) {
+				if (keys.size() == MAXIMUM_PARTITIONS) {
+					return -1;
+				}
+				identifier = keys.size();
+				identifiers.put(key, identifier);
+				keys.add(key);
+			}
+			partitions[index] = identifier;
+		}
+
+		final int direction = descriptors.getDirection(0);
+		Integer[] order = new Integer[keys.size()];
+		for (int identifier = 0; identifier < order.length; identifier++) {
+			order[identifier] = identifier;
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+
+			@Override
+			public int compare(Integer identifier1, Integer identifier2) {
+				return SortUtils.compareKeys(keys.get(identifier1), keys.get(identifier2)) * direction;
+			}
+		});
+		int[] ranks = new int[order.length];
+		int rank = -1;
+		for (int position = 0; position < order.length; position++) {
+			if (position == 0 || SortUtils.compareKeys(keys.get(order[position - 1]), keys.get(order[position])) != 0) {
+				rank++;
+			}
+			ranks[order[position]] = rank;
+		}
+		for (int index = 0; index < partitions.length; index++) {
+			partitions[index] = ranks[partitions[index]];
+		}
+		return rank + 1;
+	}
+
+	/**
+	 * Sort each partition of the indexes by the remaining descriptors. The large
+	 * partitions are sorted one by one with all the threads of the pool, and the
+	 * small ones are sorted concurrently by the pool.
+	 * 
+	 * @param items the elements to sort
+	 * @param remaining the descriptors after the leading one
+	 * @param indexes the partitioned indexes to sort
+	 * @param offsets the start offsets of the partitions followed by the number of the elements
+	 * @param pool the pool to sort the partitions, or null to sort them sequentially
+	 * @param threshold the minimum number of the elements to sort in parallel
+	 * @param <InputType> the type of the elements to be sorted
+	 */
+	private static <InputType> void sortPartitions(Object[] items, CompiledSortDescriptors<InputType> remaining, int[] indexes, int[] offsets, ForkJoinPool pool, int threshold) {
+		List<PartitionTask<InputType>> tasks = new ArrayList<PartitionTask<InputType>>();
+		for (int partition = 0; partition + 1 < offsets.length; partition++) {
+			int from = offsets[partition];
+			int to = offsets[partition + 1];
+			if (to - from < 2) {
+				continue;
+			}
+			if (pool == null) {
+				sortPartition(items, remaining, indexes, from, to, null);
+			}
+			else if (to - from >= threshold) {
+				sortPartition(items, remaining, indexes, from, to, pool);
+			}
+			else {
+				tasks.add(new PartitionTask<InputType>(items, remaining, indexes, from, to));
+			}
+		}
+		if (!tasks.isEmpty()) {
+			pool.invoke(new PartitionsTask<InputType>(tasks));
+		}
+	}
+
+	/**
+	 * Sort a partition of the indexes by the remaining descriptors.
+	 * 
+	 * @param items the elements to sort
+	 * @param remaining the descriptors after the leading one
+	 * @param indexes the partitioned indexes to sort
+	 * @param from the start offset of the partition (inclusive)
+	 * @param to the end offset of the partition (exclusive)
+	 * @param pool the pool to sort the partition, or null to sort it sequentially
+	 * @param <InputType> the type of the elements to be sorted
+	 */
+	private static <InputType> void sortPartition(Object[] items, CompiledSortDescriptors<InputType> remaining, int[] indexes, int from, int to, ForkJoinPool pool) {
+		int[] members = Arrays.copyOfRange(indexes, from, to);
+		Object[] elements = new Object[members.length];
+		for (int position = 0; position < members.length; position++) {
+			elements[position] = items[members[position]];
+		}
+		int[] sorted = (pool != null)? ParallelSort.sortedIndexes(elements, remaining, pool) : SortKeyTable.build(elements, remaining).sortedIndexes();
+		for (int position = 0; position < sorted.length; position++) {
+			indexes[from + position] = members[sorted[position]];
+		}
+	}
+
+	/**
+	 * This task sorts one small partition sequentially.
+	 */
+	@SuppressWarnings("serial")
+	private static class PartitionTask<InputType> extends RecursiveAction {
+
+		private Object[] _items;
+		private CompiledSortDescriptors<InputType> _remaining;
+		private int[] _indexes;
+		private int _from;
+		private int _to;
+
+		PartitionTask(Object[] items, CompiledSortDescriptors<InputType> remaining, int[] indexes, int from, int to) {
+			_items = items;
+			_remaining = remaining;
+			_indexes = indexes;
+			_from = from;
+			_to = to;
+		}
+
+		@Override
+		protected void compute() {
+			sortPartition(_items, _remaining, _indexes, _from, _to, null);
+		}
+	}
+
+	/**
+	 * This task sorts the small partitions concurrently.
+	 */
+	@SuppressWarnings("serial")
+	private static class PartitionsTask<InputType> extends RecursiveAction {
+
+		private List<PartitionTask<InputType>> _tasks;
+
+		PartitionsTask(List<PartitionTask<InputType>> tasks) {
+			_tasks = tasks;
+		}
+
+		@Override
+		protected void compute() {
+			invokeAll(_tasks);
+		}
+	}
+}
@@ -0,0 +1,355 @@
+/* Permutations.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * This class provides the utilities to apply a permutation, e.g., the one returned
+ * by {@link SortUtils#argsort(List, List)}, to the arrays or the lists in place. A
+ * permutation is an array of the indexes where the element at position <code>i</code>
+ * after applying is the element at position <code>permutation[i]</code> before
+ * applying. The elements are moved by following the cycles of the permutation, so
+ * each element is moved once and the permutation itself remains unchanged.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public final class Permutations {
+
+	/**
+	 * Prevent from creating a <code>Permutations</code> instance.
+	 */
+	private Permutations() {}
+
+	/**
+	 * Get the inverse of the given permutation, i.e., the position of each element
+	 * after applying the permutation.
+	 * 
+	 * @param permutation the permutation to invert
+	 * @return the inverse permutation
+	 * @throws IllegalArgumentException if {@code permutation} is not a valid permutation
+	 */
+	public static int[] inverse(int[] permutation) {
+		if (permutation == null) {
+			throw new IllegalArgumentException();
+		}
+		validate(permutation, permutation.length);
+		int[] inverse = new int[permutation.length];
+		for (int index = 0; index < permutation.length; index++) {
+			inverse[permutation[index]] = index;
+		}
+		return inverse;
+	}
+
+	/**
+	 * Reorder the given array by the permutation in place.
+	 * 
+	 * @param permutation the permutation to apply
+	 * @param array the array to reorder
+	 * @param <ElementType> the type of the elements
+	 * @throws IllegalArgumentException either {@code array} is null or {@code permutation} is not a valid permutation of it
+	 */
+	public static <ElementType> void apply(int[] permutation, final ElementType[] array) {
+		if (array == null) {
+			throw new IllegalArgumentException();
+		}
+		apply(permutation, array.length, new Slots() {
+
+			private ElementType _hold;
+
+			@Override
+			public void save(int index) {
+				_hold = array[index];
+			}
+
+			@Override
+			public void move(int from, int to) {
+				array[to] = array[from];
+			}
+
+			@Override
+			public void restore(int index) {
+				array[index] = _hold;
+			}
+		});
+	}
+
+	/**
+	 * Reorder the given list by the permutation in place. The elements of a random
+	 * access list are moved in place; the other lists are copied once and written
+	 * back by their iterators.
+	 * 
+	 * @param permutation the permutation to apply
+	 * @param list the list to reorder
+	 * @param <ElementType> the type of the elements
+	 * @throws IllegalArgumentException either {@code list} is null or {@code permutation} is not a valid permutation of it
+	 */
+	public static <ElementType> void apply(int[] permutation, final List<ElementType> list) {
+		if (list == null) {
+			throw new IllegalArgumentException();
+		}
+		if (!(list instanceof RandomAccess)) {
+			if (permutation == null) {
+				throw new IllegalArgumentException();
+			}
+			validate(permutation, list.size());
+			SortUtils.reorder(list, list.toArray(), permutation);
+			return;
+		}
+		apply(permutation, list.size(), new Slots() {
+
+			private ElementType _hold;
+
+			@Override
+			public void save(int index) {
+				_hold = list.get(index);
+			}
+
+			@Override
+			public void move(int from, int to) {
+				list.set(to, list.get(from));
+			}
+
+			@Override
+			public void restore(int index) {
+				list.set(index, _hold);
+			}
+		});
+	}
+
+	/**
+	 * Reorder the given <code>int</code> array by the permutation in place.
+	 * 
+	 * @param permutation the permutation to apply
+	 * @param array the array to reorder
+	 * @throws IllegalArgumentException either {@code array} is null or {@code permutation} is not a valid permutation of it
+	 */
+	public static void apply(int[] permutation, final int[] array) {
+		if (array == null) {
+			throw new IllegalArgumentException();
+		}
+		apply(permutation, array.length, new Slots() {
+
+			private int _hold;
+
+			@Override
+			public void save(int index) {
+				_hold = array[index];
+			}
+
+			@Override
+			public void move(int from, int to) {
+				array[to] = array[from];
+			}
+
+			@Override
+			public void restore(int index) {
+				array[index] = _hold;
+			}
+		});
+	}
+
+	/**
+	 * Reorder the given <code>long</code> array by the permutation in place.
+	 * 
+	 * @param permutation the permutation to apply
+	 * @param array the array to reorder
+	 * @throws IllegalArgumentException either {@code array} is null or {@code permutation} is not a valid permutation of it
+	 */
+	public static void apply(int[] permutation, final long[] array) {
+		if (array == null) {
+			throw new IllegalArgumentException();
+		}
+		apply(permutation, array.length, new Slots() {
+
+			private long _hold;
+
+			@Override
+			public void save(int index) {
+				_hold = array[index];
+			}
+
+			@Override
+			public void move(int from, int to) {
+				array[to] = array[from];
+			}
+
+			@Override
+			public void restore(int index) {
+				array[index] = _hold;
+			}
+		});
+	}
+
+	/**
+	 * Reorder the given <code>double</code> array by the permutation in place.
+	 * 
+	 * @param permutation the permutation to apply
+	 * @param array the array to reorder
+	 * @throws IllegalArgumentException either {@code array} is null or {@code permutation} is not a valid permutation of it
+	 */
+	public static void apply(int[] permutation, final double[] array) {
+		if (array == null) {
+			throw new IllegalArgumentException();
+		}
+		apply(permutation, array.length, new Slots() {
+
+			private double _hold;
+
+			@Override
+			public void save(int index) {
+				_hold = array[index];
+			}
+
+			@Override
+			public void move(int from, int to) {
+				array[to] = array[from];
+			}
+
+			@Override
+			public void restore(int index) {
+				array[index] = _hold;
+			}
+		});
+	}
+
+	/**
+	 * Reorder the given <code>byte</code> array by the permutation in place.
+	 * 
+	 * @param permutation the permutation to apply
+	 * @param array the array to reorder
+	 * @throws IllegalArgumentException either {@code array} is null or {@code permutation} is not a valid permutation of it
+	 */
+	public static void apply(int[] permutation, final byte[] array) {
+		if (array == null) {
+			throw new IllegalArgumentException();
+		}
+		apply(permutation, array.length, new Slots() {
+
+			private byte _hold;
+
+			@Override
+			public void save(int index) {
+				_hold = array[index];
+			}
+
+			@Override
+			public void move(int from, int to) {
+				array[to] = array[from];
+			}
+
+			@Override
+			public void restore(int index) {
+				array[index] = _hold;
+			}
+		});
+	}
+
+	/**
+	 * Validate the permutation and move the elements of the slots by following the
+	 * cycles of the permutation.
+	 * 
+	 * @param permutation the permutation to apply
+	 * @param length the number of the slots
+	 * @param slots the slots of the elements
+	 */
+	private static void apply(int[] permutation, int length, Slots slots) {
+		if (permutation == null) {
+			throw new IllegalArgumentException();
+		}
+		boolean[] pending = validate(permutation, length);
+		for (int start = 0; start < length; start++) {
+			if (!pending[start]) {
+				continue;
+			}
+			pending[start] = false;
+			if (permutation[start] == start) {
+				continue;
+			}
+			slots.save(start);
+			int index = start;
+			while (permutation[index] != start) {
+				slots.move(permutation[index], index);
+				index = permutation[index];
+				pending[index] = false;
+			}
+			slots.restore(index);
+		}
+	}
+
+	/**
+	 * Check whether the given array is a permutation of the given length, i.e., it
+	 * contains each index once.
+	 * 
+	 * @param permutation the permutation to check
+	 * @param length the number of the elements to permute
+	 * @return the flags of all the indexes, all of which are true
+	 * @throws IllegalArgumentException if {@code permutation} is not a valid permutation
+	 */
+	private static boolean[] validate(int[] permutation, int length) {
+		if (permutation.length != length) {
+			throw new IllegalArgumentException();
+		}
+		boolean[] seen = new boolean[length];
+		for (int index : permutation) {
+			if (index < 0 || index >= length || seen[index]) {
+				throw new IllegalArgumentException();
+			}
+			seen[index] = true;
+		}
+		return seen;
+	}
+
+	/**
+	 * This interface moves the elements of an array or a list by their indexes.
+	 */
+	private interface Slots {
+
+		/**
+		 * Save the element at the given index aside.
+		 * 
+		 * @param index the index of the element to save
+		 */
+		void save(int index);
+
+		/**
+		 * Move the element at an index to another index.
+		 * 
+		 * @param from the index of the element to move
+		 * @param to the index to move the element to
+		 */
+		void move(int from, int to);
+
+		/**
+		 * Write the saved element to the given index.
+		 * 
+		 * @param index the index to write the saved element
+		 */
+		void restore(int index);
+	}
+}
@@ -0,0 +1,69 @@
+/* PrimitiveSortDescriptor.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+/**
+ * This abstract class provides the common implementation of the sort descriptors
+ * that extract primitive sort keys. The sort engines compare and store the keys
+ * as primitives, so no key is boxed during sorting. The {@link #transform(Object)}
+ * method still returns the boxed key for the code that expects a {@link Comparable}.
+ * Since the keys are primitives, there is no <code>null</code> key; the transformer
+ * decides the key of an element that has no value.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+abstract class PrimitiveSortDescriptor<InputType> extends AbstractSortDescriptor<InputType> {
+
+	/**
+	 * Constructs a <code>PrimitiveSortDescriptor</code> instance with the given
+	 * ascending setting.
+	 * 
+	 * @param ascending the ascending setting
+	 */
+	protected PrimitiveSortDescriptor(boolean ascending) {
+		super(ascending);
+	}
+
+	/**
+	 * Compare the primitive keys of the given two elements ascending.
+	 * 
+	 * @param item1 the first element to compare
+	 * @param item2 the second element to compare
+	 * @return a negative integer, zero, or a positive integer as the key of the
+	 *         first element is less than, equal to, or greater than the other
+	 */
+	abstract int compareKeys(InputType item1, InputType item2);
+
+	/**
+	 * Create an empty column to store the primitive keys of the elements.
+	 * 
+	 * @param size the number of the elements
+	 * @param direction <code>1</code> for ascending and <code>-1</code> for descending
+	 * @return the empty key column
+	 */
+	abstract SortKeyColumn createColumn(int size, int direction);
+}
@@ -0,0 +1,153 @@
+/* PropertyAccessor.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * This class represents a getter method that has been resolved for a specific
+ * runtime class. Resolving a getter with the Java Reflection is expensive, so
+ * the resolved accessor is cached by {@link PropertySortDescriptor} and reused
+ * for all the objects of the same class. If permitted, the accessor calls the
+ * getter through a transformer generated by {@link AccessorGenerator} instead
+ * of the reflective call.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+class PropertyAccessor {
+
+	private Class<?> _type;
+	private Method _method;
+	private Transformer<Object, Object> _transformer;
+
+	/**
+	 * Resolve the getter method with the given name from the class. If there is
+	 * no such public method, the returned accessor always gets <code>null</code>,
+	 * so the missing getter is resolved only once per class.
+	 * 
+	 * @param type the class to resolve the getter
+	 * @param methodName the name of the getter method
+	 * @param generate {@code true} to call the getter through a generated transformer
+	 * @return the resolved accessor
+	 */
+	static PropertyAccessor resolve(Class<?> type, String methodName, boolean generate) {
+		try {
+			Method method = type.getMethod(methodName);
+			Transformer<Object, Object> transformer = generate? AccessorGenerator.generate(method) : null;
+			if (transformer != null) {
+				return new PropertyAccessor(type, method, transformer);
+			}
+			try {
+				// A public getter declared in a non-public class is not accessible without this
+				method.setAccessible(true);
+			}
+			catch (RuntimeException e) {
+				// Keep the normal access checks if the accessibility can not be changed
+			}
+			return new PropertyAccessor(type, method, null);
+		}
+		catch (NoSuchMethodException | SecurityException e) {
+			return new PropertyAccessor(type, null, null);
+		}
+	}
+
+	/**
+	 * Construct a <code>PropertyAccessor</code> instance with the class and
+	 * the resolved getter method.
+	 * 
+	 * @param type the class that the getter is resolved from
+	 * @param method the getter method; <code>null</code> if not found
+	 * @param transformer the generated transformer; <code>null</code> to use the reflection
+	 */
+	PropertyAccessor(Class<?> type, Method method, Transformer<Object, Object> transformer) {
+		_type = type;
+		_method = method;
+		_transformer = transformer;
+	}
+
+	/**
+	 * Get the class that the accessor is resolved for.
+	 * 
+	 * @return the class
+	 */
+	Class<?> getType() {
+		return _type;
+	}
+
+	/**
+	 * Get the property value from the given target object. An exception thrown by
+	 * the getter is rethrown; a checked one is wrapped in an
+	 * {@link IllegalStateException}.
+	 * 
+	 * @param target the object to get the property value
+	 * @return the property value; <code>null</code> if the getter is not found or
+	 *         can not be accessed
+	 */
+	Object get(Object target) {
+		if (_method == null) {
+			return null;
+		}
+		if (_transformer != null) {
+			return _transformer.transform(target);
+		}
+		try {
+			return _method.invoke(target);
+		}
+		catch (InvocationTargetException e) {
+			throw rethrow(e.getCause());
+		}
+		catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Check whether the getter is called through a generated transformer.
+	 * 
+	 * @return {@code true} if the getter is called through a generated transformer
+	 */
+	boolean isGenerated() {
+		return _transformer != null;
+	}
+
+	/**
+	 * Rethrow the given throwable from the getter as an unchecked one.
+	 * 
+	 * @param throwable the throwable to rethrow
+	 * @return never returns
+	 */
+	private static RuntimeException rethrow(Throwable throwable) {
+		if (throwable instanceof RuntimeException) {
+			throw (RuntimeException) throwable;
+		}
+		if (throwable instanceof Error) {
+			throw (Error) throwable;
+		}
+		throw new IllegalStateException(throwable);
+	}
+}
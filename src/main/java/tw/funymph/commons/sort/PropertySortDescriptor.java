@@ -24,15 +24,28 @@
  */
 package tw.funymph.commons.sort;
 
-import java.lang.reflect.Method;
-
 /**
  * This class provides an implementation that uses the given property name to
  * obtain the comparable part from a object. The implementation uses the Java
  * Reflection to call the getter method named <code>get[PropertyName]</code>,
  * e.g., <code>getFirstName</code> to get the first name of a person object.
  * For the computed properties, the getter method can be customized by using
- * the {@link #setGetterMethodPrefix(String)} method.
+ * the {@link #setGetterMethodPrefix(String)} method. The getter method is
+ * resolved once per runtime class and cached, so sorting a list of objects of
+ * the same class (or of a few subclasses) does not look up the method again.
+ * By default, the getter is called through a generated accessor that performs
+ * like a direct method call; if the accessor can not be generated, e.g., the
+ * getter is not accessible, the Java Reflection is used instead.
+ * <p>
+ * The property name can be a dotted path to a nested property, e.g.,
+ * <code>homeAddress.city</code> calls <code>getHomeAddress().getCity()</code>.
+ * The getter prefix applies to the last property only; the others use
+ * <code>get</code>. Each step of the path caches its own accessors, and the
+ * path stops with <code>null</code> at the first <code>null</code> value.
+ * <p>
+ * A getter that is not found, e.g., a misspelled property, and a value that is
+ * not {@link Comparable} make the key <code>null</code>. An exception thrown by
+ * a getter is rethrown.
  * 
  * @author Pin-Ying Tu
  * @version 1.0
@@ -45,14 +58,19 @@ public class PropertySortDescriptor<InputType> extends AbstractSortDescriptor<In
 
 	private static final String GETTER_FORMAT = "%1s%2s";
 
+	private static final String PATH_SEPARATOR = "\\.";
+
 	private String _prefix;
 	private String _propertyName;
+	private volatile boolean _accessorGenerationEnabled;
+	private volatile AccessorCache[] _path;
 
 	/**
 	 * Construct a <code>PropertySortDescriptor</code> instance with the
 	 * property name.
 	 * 
-	 * @param propertyName the property name
+	 * @param propertyName the property name or the dotted path of the property
+	 * @throws IllegalArgumentException if {@code propertyName} is null, empty or has an empty path segment
 	 */
 	public PropertySortDescriptor(String propertyName) {
 		this(propertyName, false, true);
@@ -66,6 +84,7 @@ public class PropertySortDescriptor<InputType> extends AbstractSortDescriptor<In
 	 * 
 	 * @param propertyName the property name
 	 * @param isBooleanProperty {@code true} to use <code>is[PropertyName]</code> getter
+	 * @throws IllegalArgumentException if {@code propertyName} is null, empty or has an empty path segment
 	 */
 	public PropertySortDescriptor(String propertyName, boolean isBooleanProperty) {
 		this(propertyName, isBooleanProperty, true);
@@ -80,11 +99,13 @@ public class PropertySortDescriptor<InputType> extends AbstractSortDescriptor<In
 	 * @param propertyName the property name
 	 * @param isBooleanProperty {@code true} to use <code>is[PropertyName]</code> getter
 	 * @param ascending to determine the sort ordering
+	 * @throws IllegalArgumentException if {@code propertyName} is null, empty or has an empty path segment
 	 */
 	public PropertySortDescriptor(String propertyName, boolean isBooleanProperty, boolean ascending) {
 		super(ascending);
 		_propertyName = propertyName;
-		_prefix = isBooleanProperty? BOOLEAN_GETTER_PREFIX : DEFAULT_GETTER_PREFIX;
+		_accessorGenerationEnabled = true;
+		setGetterMethodPrefix(isBooleanProperty? BOOLEAN_GETTER_PREFIX : DEFAULT_GETTER_PREFIX);
 	}
 
 	/**
@@ -94,6 +115,27 @@ public class PropertySortDescriptor<InputType> extends AbstractSortDescriptor<In
 	 */
 	public void setGetterMethodPrefix(String prefix) {
 		_prefix = prefix;
+		_path = createPath();
+	}
+
+	/**
+	 * Set whether to call the getter through a generated accessor (enabled by
+	 * default) or always through the Java Reflection.
+	 * 
+	 * @param enabled {@code true} to generate the accessors
+	 */
+	public void setAccessorGenerationEnabled(boolean enabled) {
+		_accessorGenerationEnabled = enabled;
+		_path = createPath();
+	}
+
+	/**
+	 * Get whether the getter is called through a generated accessor.
+	 * 
+	 * @return {@code true} if the accessor generation is enabled
+	 */
+	public boolean isAccessorGenerationEnabled() {
+		return _accessorGenerationEnabled;
 	}
 
 	/**
@@ -107,27 +149,50 @@ public class PropertySortDescriptor<InputType> extends AbstractSortDescriptor<In
 
 	@Override
 	public Comparable<?> transform(InputType input) {
-		Class<?> clazz = input.getClass();
-		Class<?>[] parameterTypes = new Class<?>[] { };
-		Object[] parameters = new Object[] { };
-		try {
-			Method method = clazz.getMethod(getMethodName(), parameterTypes);
-			return (Comparable<?>) method.invoke(input, parameters);
+		Object value = input;
+		for (AccessorCache step : _path) {
+			if (value == null) {
+				return null;
+			}
+			value = step.get(value);
+		}
+		return value instanceof Comparable? (Comparable<?>) value : null;
+	}
+
+	/**
+	 * Create the accessor caches of each step of the property path.
+	 * 
+	 * @return the accessor caches
+	 * @throws IllegalArgumentException if the property name is null, empty or has an empty path segment
+	 */
+	private AccessorCache[] createPath() {
+		if (_propertyName == null) {
+			throw new IllegalArgumentException();
 		}
-		catch (Exception e) {
-			e.printStackTrace();
+		String[] names = _propertyName.split(PATH_SEPARATOR, -1);
+		for (String name : names) {
+			if (name.isEmpty()) {
+				throw new IllegalArgumentException();
+			}
 		}
-		return null;
+		AccessorCache[] path = new AccessorCache[names.length];
+		for (int index = 0; index < names.length; index++) {
+			String prefix = index < names.length - 1? DEFAULT_GETTER_PREFIX : _prefix;
+			path[index] = new AccessorCache(getMethodName(prefix, names[index]), _accessorGenerationEnabled);
+		}
+		return path;
 	}
 
 	/**
 	 * Get the method name based on the prefix.
 	 * 
+	 * @param prefix the getter method prefix
+	 * @param propertyName the property name
 	 * @return the method name
 	 */
-	private String getMethodName() {
-		String propertyName = isNotBlank(_prefix)? capitalizeFirstLetter(_propertyName) : _propertyName;
-		return String.format(GETTER_FORMAT, _prefix, propertyName).trim();
+	private String getMethodName(String prefix, String propertyName) {
+		String name = isNotBlank(prefix)? capitalizeFirstLetter(propertyName) : propertyName;
+		return String.format(GETTER_FORMAT, prefix, name).trim();
 	}
 
 	/**
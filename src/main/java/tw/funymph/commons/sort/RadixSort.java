@@ -0,0 +1,168 @@
+/* RadixSort.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.util.Arrays;
+
+/**
+ * This class provides a least significant digit (LSD) radix sort over the
+ * precomputed keys of a whole descriptor chain. The chain is treated as a
+ * composite fixed-width key: the columns are sorted from the last descriptor
+ * to the first one, each by a stable counting sort per byte. Only the bytes
+ * that actually differ among the keys are sorted, so a boolean or a small
+ * enum key costs a single pass.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+final class RadixSort {
+
+	private static final int RADIX_BITS = 8;
+	private static final int RADIX = 1 << RADIX_BITS;
+	private static final int RADIX_MASK = RADIX - 1;
+
+	/**
+	 * Prevent from creating a <code>RadixSort</code> instance.
+	 */
+	private RadixSort() {}
+
+	/**
+	 * Sort the indexes of the elements in the key table with the radix sort. If any
+	 * column of the table is not fixed-width, the comparison sort is used instead.
+	 * Both sorts are stable.
+	 * 
+	 * @param table the key table
+	 * @return the sorted indexes
+	 */
+	static int[] sortedIndexes(SortKeyTable table) {
+		FixedWidthKeys[] columns = table.toFixedWidthKeys();
+		if (columns == null) {
+			return table.sortedIndexes();
+		}
+		return sortedIndexes(columns, table.size());
+	}
+
+	/**
+	 * Sort the indexes of the elements with the given fixed-width key columns.
+	 * 
+	 * @param columns the key columns in the descriptor ordering
+	 * @param size the number of the elements
+	 * @return the sorted indexes
+	 */
+	static int[] sortedIndexes(FixedWidthKeys[] columns, int size) {
+		int[] indexes = IndexSort.identity(size);
+		int[] buffer = new int[size];
+		int[] counts = new int[RADIX + 1];
+		for (int column = columns.length - 1; column >= 0; column--) {
+			long[] keys = columns[column].getKeys();
+			boolean[] nulls = columns[column].getNulls();
+			long varyingBits = varyingBits(keys, nulls);
+			for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+				if (((varyingBits >>> shift) & RADIX_MASK) != 0) {
+					countingSort(indexes, buffer, keys, shift, counts);
+					int[] swap = indexes;
+					indexes = buffer;
+					buffer = swap;
+				}
+			}
+			if (nulls != null) {
+				partitionNulls(indexes, buffer, nulls, columns[column].isNullFirst());
+				int[] swap = indexes;
+				indexes = buffer;
+				buffer = swap;
+			}
+		}
+		return indexes;
+	}
+
+	/**
+	 * Get the bits that differ among the non-null keys.
+	 * 
+	 * @param keys the keys
+	 * @param nulls the <code>null</code> flags; <code>null</code> if there is no null key
+	 * @return the varying bits
+	 */
+	private static long varyingBits(long[] keys, boolean[] nulls) {
+		boolean found = false;
+		long first = 0;
+		long bits = 0;
+		for (int index = 0; index < keys.length; index++) {
+			if (nulls != null && nulls[index]) {
+				continue;
+			}
+			if (!found) {
+				first = keys[index];
+				found = true;
+			}
+			bits |= keys[index] ^ first;
+		}
+		return bits;
+	}
+
+	/**
+	 * Stably sort the indexes by the byte of the keys at the given shift.
+	 * 
+	 * @param indexes the indexes to sort
+	 * @param destination the destination to store the sorted indexes
+	 * @param keys the keys of the elements
+	 * @param shift the shift of the byte to sort
+	 * @param counts the buffer to count the bytes
+	 */
+	private static void countingSort(int[] indexes, int[] destination, long[] keys, int shift, int[] counts) {
+		Arrays.fill(counts, 0);
+		for (int index : indexes) {
+			counts[(int) ((keys[index] >>> shift) & RADIX_MASK) + 1]++;
+		}
+		for (int digit = 1; digit <= RADIX; digit++) {
+			counts[digit] += counts[digit - 1];
+		}
+		for (int index : indexes) {
+			destination[counts[(int) ((keys[index] >>> shift) & RADIX_MASK)]++] = index;
+		}
+	}
+
+	/**
+	 * Stably move the indexes of the <code>null</code> keys before or after the others.
+	 * 
+	 * @param indexes the indexes to partition
+	 * @param destination the destination to store the partitioned indexes
+	 * @param nulls the <code>null</code> flags
+	 * @param nullFirst {@code true} to move the <code>null</code> keys first
+	 */
+	private static void partitionNulls(int[] indexes, int[] destination, boolean[] nulls, boolean nullFirst) {
+		int position = 0;
+		for (int index : indexes) {
+			if (nulls[index] == nullFirst) {
+				destination[position++] = index;
+			}
+		}
+		for (int index : indexes) {
+			if (nulls[index] != nullFirst) {
+				destination[position++] = index;
+			}
+		}
+	}
+}
@@ -0,0 +1,303 @@
+/* RecordSortDescriptor.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This abstract class describes how to sort the fixed-layout binary records by a
+ * typed field at a byte offset of the record. The fields are read from the record
+ * slots of a {@link ByteBuffer} directly, so no object is created per record. The
+ * descriptors are created by the factory methods and are immutable.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ * @see RecordSorter
+ */
+public abstract class RecordSortDescriptor {
+
+	private final int _offset;
+	private final int _width;
+	private final boolean _ascending;
+
+	/**
+	 * Construct a <code>RecordSortDescriptor</code> instance with the position and
+	 * the width of the field.
+	 * 
+	 * @param offset the byte offset of the field in the record
+	 * @param width the number of the bytes of the field
+	 * @param ascending the sorting ordering
+	 * @throws IllegalArgumentException either {@code offset} is negative or {@code width} is not positive
+	 */
+	RecordSortDescriptor(int offset, int width, boolean ascending) {
+		if (offset < 0 || width <= 0) {
+			throw new IllegalArgumentException();
+		}
+		_offset = offset;
+		_width = width;
+		_ascending = ascending;
+	}
+
+	/**
+	 * Get the byte offset of the field in the record.
+	 * 
+	 * @return the byte offset of the field
+	 */
+	public int getOffset() {
+		return _offset;
+	}
+
+	/**
+	 * Get the number of the bytes of the field.
+	 * 
+	 * @return the width of the field
+	 */
+	public int getWidth() {
+		return _width;
+	}
+
+	/**
+	 * Get the order to sort the records.
+	 * 
+	 * @return true to sort the records ascending
+	 */
+	public boolean isAscending() {
+		return _ascending;
+	}
+
+	/**
+	 * Compare the fields of two records in ascending order.
+	 * 
+	 * @param buffer1 the buffer of the first record
+	 * @param position1 the absolute position of the field of the first record
+	 * @param buffer2 the buffer of the second record
+	 * @param position2 the absolute position of the field of the second record
+	 * @return a negative integer, zero, or a positive integer as the first field is
+	 *         less than, equal to, or greater than the second field
+	 */
+	abstract int compare(ByteBuffer buffer1, int position1, ByteBuffer buffer2, int position2);
+
+	/**
+	 * Create a descriptor to sort the records ascending by an <code>int</code> field.
+	 * 
+	 * @param offset the byte offset of the field in the record
+	 * @return the record sort descriptor
+	 */
+	public static RecordSortDescriptor intField(int offset) {
+		return intField(offset, true);
+	}
+
+	/**
+	 * Create a descriptor to sort the records by an <code>int</code> field.
+	 * 
+	 * @param offset the byte offset of the field in the record
+	 * @param ascending the sorting ordering
+	 * @return the record sort descriptor
+	 */
+	public static RecordSortDescriptor intField(int offset, boolean ascending) {
+		return new RecordSortDescriptor(offset, Integer.BYTES, ascending) {
+
+			@Override
+			int compare(ByteBuffer buffer1, int position1, ByteBuffer buffer2, int position2) {
+				return Integer.compare(buffer1.getInt(position1), buffer2.getInt(position2));
+			}
+		};
+	}
+
+	/**
+	 * Create a descriptor to sort the records ascending by a <code>long</code> field.
+	 * 
+	 * @param offset the byte offset of the field in the record
+	 * @return the record sort descriptor
+	 */
+	public static RecordSortDescriptor longField(int offset) {
+		return longField(offset, true);
+	}
+
+	/**
+	 * Create a descriptor to sort the records by a <code>long</code> field.
+	 * 
+	 * @param offset the byte offset of the field in the record
+	 * @param ascending the sorting ordering
+	 * @return the record sort descriptor
+	 */
+	public static RecordSortDescriptor longField(int offset, boolean ascending) {
+		return new RecordSortDescriptor(offset, Long.BYTES, ascending) {
+
+			@Override
+			int compare(ByteBuffer buffer1, int position1, ByteBuffer buffer2, int position2) {
+				return Long.compare(buffer1.getLong(position1), buffer2.getLong(position2));
+			}
+		};
+	}
+
+	/**
+	 * Create a descriptor to sort the records ascending by a <code>short</code> field.
+	 * 
+	 * @param offset the byte offset of the field in the record
+	 * @return the record sort descriptor
+	 */
+	public static RecordSortDescriptor shortField(int offset) {
+		return shortField(offset, true);
+	}
+
+	/**
+	 * Create a descriptor to sort the records by a <code>short</code> field.
+	 * 
+	 * @param offset the byte offset of the field in the record
+	 * @param ascending the sorting ordering
+	 * @return the record sort descriptor
+	 */
+	public static RecordSortDescriptor shortField(int offset, boolean ascending) {
+		return new RecordSortDescriptor(offset, Short.BYTES, ascending) {
+
+			@Override
+			int compare(ByteBuffer buffer1, int position1, ByteBuffer buffer2, int position2) {
+				return Short.compare(buffer1.getShort(position1), buffer2.getShort(position2));
+			}
+		};
+	}
+
+	/**
+	 * Create a descriptor to sort the records ascending by a <code>byte</code> field.
+	 * 
+	 * @param offset the byte offset of the field in the record
+	 * @return the record sort descriptor
+	 */
+	public static RecordSortDescriptor byteField(int offset) {
+		return byteField(offset, true);
+	}
+
+	/**
+	 * Create a descriptor to sort the records by a <code>byte</code> field.
+	 * 
+	 * @param offset the byte offset of the field in the record
+	 * @param ascending the sorting ordering
+	 * @return the record sort descriptor
+	 */
+	public static RecordSortDescriptor byteField(int offset, boolean ascending) {
+		return new RecordSortDescriptor(offset, Byte.BYTES, ascending) {
+
+			@Override
+			int compare(ByteBuffer buffer1, int position1, ByteBuffer buffer2, int position2) {
+				return Byte.compare(buffer1.get(position1), buffer2.get(position2));
+			}
+		};
+	}
+
+	/**
+	 * Create a descriptor to sort the records ascending by a <code>float</code> field.
+	 * 
+	 * @param offset the byte offset of the field in the record
+	 * @return the record sort descriptor
+	 */
+	public static RecordSortDescriptor floatField(int offset) {
+		return floatField(offset, true);
+	}
+
+	/**
+	 * Create a descriptor to sort the records by a <code>float</code> field. The
+	 * values are ordered as {@link Float#compare(float, float)} does.
+	 * 
+	 * @param offset the byte offset of the field in the record
+	 * @param ascending the sorting ordering
+	 * @return the record sort descriptor
+	 */
+	public static RecordSortDescriptor floatField(int offset, boolean ascending) {
+		return new RecordSortDescriptor(offset, Float.BYTES, ascending) {
+
+			@Override
+			int compare(ByteBuffer buffer1, int position1, ByteBuffer buffer2, int position2) {
+				return Float.compare(buffer1.getFloat(position1), buffer2.getFloat(position2));
+			}
+		};
+	}
+
+	/**
+	 * Create a descriptor to sort the records ascending by a <code>double</code> field.
+	 * 
+	 * @param offset the byte offset of the field in the record
+	 * @return the record sort descriptor
+	 */
+	public static RecordSortDescriptor doubleField(int offset) {
+		return doubleField(offset, true);
+	}
+
+	/**
+	 * Create a descriptor to sort the records by a <code>double</code> field. The
+	 * values are ordered as {@link Double#compare(double, double)} does.
+	 * 
+	 * @param offset the byte offset of the field in the record
+	 * @param ascending the sorting ordering
+	 * @return the record sort descriptor
+	 */
+	public static RecordSortDescriptor doubleField(int offset, boolean ascending) {
+		return new RecordSortDescriptor(offset, Double.BYTES, ascending) {
+
+			@Override
+			int compare(ByteBuffer buffer1, int position1, ByteBuffer buffer2, int position2) {
+				return Double.compare(buffer1.getDouble(position1), buffer2.getDouble(position2));
+			}
+		};
+	}
+
+	/**
+	 * Create a descriptor to sort the records ascending by a fixed-length byte
+	 * string field, e.g., an ASCII symbol padded with zeros.
+	 * 
+	 * @param offset the byte offset of the field in the record
+	 * @param length the number of the bytes of the field
+	 * @return the record sort descriptor
+	 */
+	public static RecordSortDescriptor bytesField(int offset, int length) {
+		return bytesField(offset, length, true);
+	}
+
+	/**
+	 * Create a descriptor to sort the records by a fixed-length byte string field.
+	 * The bytes are compared lexicographically as unsigned values.
+	 * 
+	 * @param offset the byte offset of the field in the record
+	 * @param length the number of the bytes of the field
+	 * @param ascending the sorting ordering
+	 * @return the record sort descriptor
+	 */
+	public static RecordSortDescriptor bytesField(int offset, final int length, boolean ascending) {
+		return new RecordSortDescriptor(offset, length, ascending) {
+
+			@Override
+			int compare(ByteBuffer buffer1, int position1, ByteBuffer buffer2, int position2) {
+				for (int index = 0; index < length; index++) {
+					int result = Integer.compare(buffer1.get(position1 + index) & 0xFF, buffer2.get(position2 + index) & 0xFF);
+					if (result != 0) {
+						return result;
+					}
+				}
+				return 0;
+			}
+		};
+	}
+}
@@ -0,0 +1,282 @@
+/* RecordSorter.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * This class sorts the fixed-layout binary records that live in a {@link ByteBuffer},
+ * e.g., a direct buffer, or in a memory-mapped file, without creating an object per
+ * record. The records are compared by the {@link RecordSortDescriptor}s that read
+ * the typed fields at the byte offsets of the record slots. The sort is a stable
+ * merge sort over the indexes of the slots, so the heap only holds two <code>int</code>
+ * arrays of the number of the records and two record-sized byte arrays. The slots
+ * are then moved in place by following the cycles of the sorted permutation, so
+ * each record is copied about once. A file larger than 2 GB is mapped into several
+ * segments of whole records. The sorter is immutable and can be shared by multiple
+ * threads.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public final class RecordSorter {
+
+	private final int _recordSize;
+	private final RecordSortDescriptor[] _descriptors;
+	private final int[] _directions;
+
+	/**
+	 * Construct a <code>RecordSorter</code> instance with the size of the records
+	 * and the descriptors to compare the records in order.
+	 * 
+	 * @param recordSize the number of the bytes of a record
+	 * @param descriptors the record sort descriptors
+	 * @throws IllegalArgumentException if {@code recordSize} is not positive, {@code descriptors}
+	 *         is null or contains null, or a field is out of the record
+	 */
+	public RecordSorter(int recordSize, RecordSortDescriptor... descriptors) {
+		if (recordSize <= 0 || descriptors == null) {
+			throw new IllegalArgumentException();
+		}
+		_recordSize = recordSize;
+		_descriptors = descriptors.clone();
+		_directions = new int[_descriptors.length];
+		for (int index = 0; index < _descriptors.length; index++) {
+			if (_descriptors[index] == null || _descriptors[index].getOffset() > recordSize - _descriptors[index].getWidth()) {
+				throw new IllegalArgumentException();
+			}
+			_directions[index] = _descriptors[index].isAscending()? 1 : -1;
+		}
+	}
+
+	/**
+	 * Get the number of the bytes of a record.
+	 * 
+	 * @return the size of the records
+	 */
+	public int getRecordSize() {
+		return _recordSize;
+	}
+
+	/**
+	 * Sort the indexes of the records between the position and the limit of the
+	 * given buffer. The records are not moved and the position of the buffer is not
+	 * changed. The fields are read in the byte order of the buffer.
+	 * 
+	 * @param records the buffer of the records
+	 * @return the indexes of the records in the sorted order
+	 * @throws IllegalArgumentException either {@code records} is null or its remaining bytes are not whole records
+	 */
+	public int[] sortedIndexes(ByteBuffer records) {
+		Slots slots = createSlots(records);
+		int[] indexes = IndexSort.identity(slots._count);
+		IndexSort.sort(indexes, slots);
+		return indexes;
+	}
+
+	/**
+	 * Sort the records between the position and the limit of the given buffer in
+	 * place. The position of the buffer is not changed. The fields are read in the
+	 * byte order of the buffer. The sort is stable.
+	 * 
+	 * @param records the buffer of the records
+	 * @throws IllegalArgumentException either {@code records} is null or its remaining bytes are not whole records
+	 */
+	public void sort(ByteBuffer records) {
+		sort(createSlots(records));
+	}
+
+	/**
+	 * Sort the records of the given file in place by mapping the file into memory.
+	 * The channel must be opened to read and write, and the changes are forced to
+	 * the storage when the sort completes. The sort is stable.
+	 * 
+	 * @param channel the channel of the file of the records
+	 * @param order the byte order of the fields in the file
+	 * @throws IOException if the file cannot be mapped
+	 * @throws IllegalArgumentException if {@code channel} is null, {@code order} is null, the
+	 *         file is not whole records, or the file has more than {@link Integer#MAX_VALUE} records
+	 */
+	public void sort(FileChannel channel, ByteOrder order) throws IOException {
+		sort(channel, order, Integer.MAX_VALUE / _recordSize);
+	}
+
+	/**
+	 * Sort the records of the given file in place by mapping the file into the
+	 * segments of at most the given number of the records.
+	 * 
+	 * @param channel the channel of the file of the records
+	 * @param order the byte order of the fields in the file
+	 * @param segmentRecords the maximum number of the records of a segment
+	 * @throws IOException if the file cannot be mapped
+	 */
+	void sort(FileChannel channel, ByteOrder order, int segmentRecords) throws IOException {
+		if (channel == null || order == null) {
+			throw new IllegalArgumentException();
+		}
+		long size = channel.size();
+		if (size % _recordSize != 0 || size / _recordSize > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException();
+		}
+
+		int count = (int) (size / _recordSize);
+		MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((count + (long) segmentRecords - 1) / segmentRecords)];
+		for (int segment = 0; segment < segments.length; segment++) {
+			long first = (long) segment * segmentRecords;
+			long records = Math.min(segmentRecords, count - first);
+			segments[segment] = channel.map(MapMode.READ_WRITE, first * _recordSize, records * _recordSize);
+			segments[segment].order(order);
+		}
+		sort(new Slots(segments, segmentRecords, count));
+		for (MappedByteBuffer segment : segments) {
+			segment.force();
+		}
+	}
+
+	/**
+	 * Create the slots of the records between the position and the limit of the
+	 * given buffer.
+	 * 
+	 * @param records the buffer of the records
+	 * @return the slots of the records
+	 */
+	private Slots createSlots(ByteBuffer records) {
+		if (records == null || records.remaining() % _recordSize != 0) {
+			throw new IllegalArgumentException();
+		}
+		ByteBuffer segment = records.slice().order(records.order());
+		int count = segment.remaining() / _recordSize;
+		return new Slots(new ByteBuffer[] { segment }, Math.max(count, 1), count);
+	}
+
+	/**
+	 * Sort the records of the given slots and move them to the sorted slots.
+	 * 
+	 * @param slots the slots of the records
+	 */
+	private void sort(Slots slots) {
+		int[] indexes = IndexSort.identity(slots._count);
+		IndexSort.sort(indexes, slots);
+		slots.permute(indexes);
+	}
+
+	/**
+	 * This class locates the record slots in the segments and compares the records
+	 * by their indexes.
+	 */
+	private class Slots implements IndexComparator {
+
+		private ByteBuffer[] _segments;
+		private int _segmentRecords;
+		private int _count;
+
+		Slots(ByteBuffer[] segments, int segmentRecords, int count) {
+			_segments = segments;
+			_segmentRecords = segmentRecords;
+			_count = count;
+		}
+
+		@Override
+		public int compare(int index1, int index2) {
+			ByteBuffer segment1 = _segments[index1 / _segmentRecords];
+			ByteBuffer segment2 = _segments[index2 / _segmentRecords];
+			int position1 = (index1 % _segmentRecords) * _recordSize;
+			int position2 = (index2 % _segmentRecords) * _recordSize;
+			for (int index = 0; index < _descriptors.length; index++) {
+				int offset = _descriptors[index].getOffset();
+				int result = _descriptors[index].compare(segment1, position1 + offset, segment2, position2 + offset);
+				if (result != 0) {
+					return result * _directions[index];
+				}
+			}
+			return 0;
+		}
+
+		/**
+		 * Move the records to the sorted slots by following the cycles of the given
+		 * permutation. The permutation is consumed.
+		 * 
+		 * @param indexes the original slots of the records in the sorted order
+		 */
+		void permute(int[] indexes) {
+			ByteBuffer[] views = new ByteBuffer[_segments.length];
+			for (int segment = 0; segment < views.length; segment++) {
+				views[segment] = _segments[segment].duplicate();
+			}
+			byte[] hold = new byte[_recordSize];
+			byte[] scratch = new byte[_recordSize];
+			for (int start = 0; start < indexes.length; start++) {
+				if (indexes[start] < 0 || indexes[start] == start) {
+					continue;
+				}
+				read(views, start, hold);
+				int slot = start;
+				while (true) {
+					int source = indexes[slot];
+					indexes[slot] = ~source;
+					if (source == start) {
+						write(views, slot, hold);
+						break;
+					}
+					read(views, source, scratch);
+					write(views, slot, scratch);
+					slot = source;
+				}
+			}
+		}
+
+		/**
+		 * Read the record in the given slot.
+		 * 
+		 * @param views the views of the segments
+		 * @param slot the slot of the record
+		 * @param record the bytes of the record as the output
+		 */
+		private void read(ByteBuffer[] views, int slot, byte[] record) {
+			ByteBuffer view = views[slot / _segmentRecords];
+			view.position((slot % _segmentRecords) * _recordSize);
+			view.get(record);
+		}
+
+		/**
+		 * Write the record to the given slot.
+		 * 
+		 * @param views the views of the segments
+		 * @param slot the slot of the record
+		 * @param record the bytes of the record
+		 */
+		private void write(ByteBuffer[] views, int slot, byte[] record) {
+			ByteBuffer view = views[slot / _segmentRecords];
+			view.position((slot % _segmentRecords) * _recordSize);
+			view.put(record);
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/* RefinementSort.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+/**
+ * This class provides a sort that refines the ties lazily. The elements are sorted
+ * by the keys of the first descriptor, and the keys of the next descriptor are
+ * extracted and sorted only inside the runs of the elements whose previous keys
+ * are equal, recursively down the chain. If the leading keys are nearly unique,
+ * the transformers of the later descriptors are evaluated for only a few elements.
+ * Each run is sorted by a stable merge sort, so the sort is stable.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+final class RefinementSort {
+
+	/**
+	 * Prevent from creating a <code>RefinementSort</code> instance.
+	 */
+	private RefinementSort() {}
+
+	/**
+	 * Sort the indexes of the given elements by refining the ties of each descriptor
+	 * with the next one.
+	 * 
+	 * @param items the elements to sort
+	 * @param descriptors the compiled sort descriptors
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the sorted indexes
+	 */
+	static <InputType> int[] sortedIndexes(Object[] items, CompiledSortDescriptors<InputType> descriptors) {
+		int[] indexes = IndexSort.identity(items.length);
+		if (descriptors.size() > 0) {
+			refine(items, descriptors, indexes, 0, items.length, 0);
+		}
+		return indexes;
+	}
+
+	/**
+	 * Sort a range of the indexes by the descriptor at the given level and refine
+	 * the runs of the equal keys with the next level.
+	 * 
+	 * @param items the elements to sort
+	 * @param descriptors the compiled sort descriptors
+	 * @param indexes the indexes to sort
+	 * @param from the start offset of the range (inclusive)
+	 * @param to the end offset of the range (exclusive)
+	 * @param level the position of the descriptor to sort the range
+	 * @param <InputType> the type of the elements to be sorted
+	 */
+	private static <InputType> void refine(Object[] items, CompiledSortDescriptors<InputType> descriptors, int[] indexes, int from, int to, int level) {
+		int[] members = new int[to - from];
+		Object[] elements = new Object[members.length];
+		for (int position = 0; position < members.length; position++) {
+			members[position] = indexes[from + position];
+			elements[position] = items[members[position]];
+		}
+		SortKeyColumn column = SortKeyColumn.extract(descriptors.getDescriptor(level), descriptors.getDirection(level), elements);
+		int[] sorted = IndexSort.identity(members.length);
+		IndexSort.sort(sorted, column);
+		for (int position = 0; position < sorted.length; position++) {
+			indexes[from + position] = members[sorted[position]];
+		}
+		if (level + 1 == descriptors.size()) {
+			return;
+		}
+
+		int start = 0;
+		for (int position = 1; position <= sorted.length; position++) {
+			if (position < sorted.length && column.compare(sorted[start], sorted[position]) == 0) {
+				continue;
+			}
+			if (position - start > 1) {
+				refine(items, descriptors, indexes, from + start, from + position, level + 1);
+			}
+			start = position;
+		}
+	}
+}
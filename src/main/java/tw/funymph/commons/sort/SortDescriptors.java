@@ -24,9 +24,14 @@
  */
 package tw.funymph.commons.sort;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collector;
 
 /**
  * This class provides a set of methods to organize sort descriptors together
@@ -40,6 +45,7 @@ import java.util.List;
 public class SortDescriptors<InputType> {
 
 	private List<SortDescriptor<InputType>> _descriptors;
+	private SortListener _listener;
 
 	/**
 	 * Create a <code>SortDescriptorsBuilder</code> instance and wrap the given
@@ -145,6 +151,143 @@ public class SortDescriptors<InputType> {
 		return builder;
 	}
 
+	/**
+	 * Create a <code>SortDescriptorsBuilder</code> instance and wrap the given
+	 * transformer as the first sort descriptor to sort elements <em>ascending</em>
+	 * by a primitive <code>int</code> key without boxing.
+	 * 
+	 * @param transformer the transformer to be the first sort descriptor
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the builder to organize other sort descriptors
+	 */
+	public static <InputType> SortDescriptors<InputType> startWithInt(IntTransformer<InputType> transformer) {
+		return startWithInt(transformer, true);
+	}
+
+	/**
+	 * Create a <code>SortDescriptorsBuilder</code> instance and wrap the given
+	 * transformer as the first sort descriptor to sort elements by a primitive
+	 * <code>int</code> key without boxing.
+	 * 
+	 * @param transformer the transformer to be the first sort descriptor
+	 * @param ascending to sort elements ascending or descending
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the builder to organize other sort descriptors
+	 */
+	public static <InputType> SortDescriptors<InputType> startWithInt(IntTransformer<InputType> transformer, boolean ascending) {
+		SortDescriptors<InputType> builder = new SortDescriptors<InputType>();
+		builder.thenWithInt(transformer, ascending);
+		return builder;
+	}
+
+	/**
+	 * Create a <code>SortDescriptorsBuilder</code> instance and wrap the given
+	 * transformer as the first sort descriptor to sort elements <em>ascending</em>
+	 * by a primitive <code>long</code> key without boxing.
+	 * 
+	 * @param transformer the transformer to be the first sort descriptor
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the builder to organize other sort descriptors
+	 */
+	public static <InputType> SortDescriptors<InputType> startWithLong(LongTransformer<InputType> transformer) {
+		return startWithLong(transformer, true);
+	}
+
+	/**
+	 * Create a <code>SortDescriptorsBuilder</code> instance and wrap the given
+	 * transformer as the first sort descriptor to sort elements by a primitive
+	 * <code>long</code> key without boxing.
+	 * 
+	 * @param transformer the transformer to be the first sort descriptor
+	 * @param ascending to sort elements ascending or descending
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the builder to organize other sort descriptors
+	 */
+	public static <InputType> SortDescriptors<InputType> startWithLong(LongTransformer<InputType> transformer, boolean ascending) {
+		SortDescriptors<InputType> builder = new SortDescriptors<InputType>();
+		builder.thenWithLong(transformer, ascending);
+		return builder;
+	}
+
+	/**
+	 * Create a <code>SortDescriptorsBuilder</code> instance and wrap the given
+	 * transformer as the first sort descriptor to sort elements <em>ascending</em>
+	 * by a primitive <code>double</code> key without boxing.
+	 * 
+	 * @param transformer the transformer to be the first sort descriptor
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the builder to organize other sort descriptors
+	 */
+	public static <InputType> SortDescriptors<InputType> startWithDouble(DoubleTransformer<InputType> transformer) {
+		return startWithDouble(transformer, true);
+	}
+
+	/**
+	 * Create a <code>SortDescriptorsBuilder</code> instance and wrap the given
+	 * transformer as the first sort descriptor to sort elements by a primitive
+	 * <code>double</code> key without boxing.
+	 * 
+	 * @param transformer the transformer to be the first sort descriptor
+	 * @param ascending to sort elements ascending or descending
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the builder to organize other sort descriptors
+	 */
+	public static <InputType> SortDescriptors<InputType> startWithDouble(DoubleTransformer<InputType> transformer, boolean ascending) {
+		SortDescriptors<InputType> builder = new SortDescriptors<InputType>();
+		builder.thenWithDouble(transformer, ascending);
+		return builder;
+	}
+
+	/**
+	 * Create a <code>SortDescriptorsBuilder</code> instance and wrap a sort descriptor
+	 * to sort elements <em>ascending</em> by the value of the field as the first sort
+	 * descriptor.
+	 * 
+	 * @param fieldName the name of the field to sort
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the builder to organize other sort descriptors
+	 * @see FieldSortDescriptor
+	 */
+	public static <InputType> SortDescriptors<InputType> startWithField(String fieldName) {
+		return startWithField(fieldName, true);
+	}
+
+	/**
+	 * Create a <code>SortDescriptorsBuilder</code> instance and wrap a sort descriptor
+	 * to sort elements by the value of the field as the first sort descriptor.
+	 * 
+	 * @param fieldName the name of the field to sort
+	 * @param ascending to sort elements ascending or descending
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the builder to organize other sort descriptors
+	 * @see FieldSortDescriptor
+	 */
+	public static <InputType> SortDescriptors<InputType> startWithField(String fieldName, boolean ascending) {
+		SortDescriptors<InputType> builder = new SortDescriptors<InputType>();
+		builder.thenWithField(fieldName, ascending);
+		return builder;
+	}
+
+	/**
+	 * Create a <code>SortDescriptorsBuilder</code> instance and wrap a sort descriptor
+	 * to sort elements of the given class by the value of the field as the first sort
+	 * descriptor. The field is resolved in advance and the primitive fields are read
+	 * without boxing.
+	 * 
+	 * @param type the class of the elements
+	 * @param fieldName the name of the field to sort
+	 * @param ascending to sort elements ascending or descending
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the builder to organize other sort descriptors
+	 * @throws IllegalArgumentException if there is no such instance field
+	 * @see FieldSortDescriptor#of(Class, String, boolean)
+	 */
+	public static <InputType> SortDescriptors<InputType> startWithField(Class<InputType> type, String fieldName, boolean ascending) {
+		SortDescriptors<InputType> builder = new SortDescriptors<InputType>();
+		builder.thenWithField(type, fieldName, ascending);
+		return builder;
+	}
+
 	/**
 	 * Construct a <code>SortDescriptorsBuilder</code> instance.
 	 */
@@ -187,6 +330,78 @@ public class SortDescriptors<InputType> {
 		return this;
 	}
 
+	/**
+	 * Wrap the given transformer as a sort descriptor to sort elements <em>ascending</em>
+	 * by a primitive <code>int</code> key without boxing.
+	 * 
+	 * @param transformer the transformer to be the sort descriptor
+	 * @return the builder to organize other sort descriptors
+	 */
+	public SortDescriptors<InputType> thenWithInt(IntTransformer<InputType> transformer) {
+		return thenWithInt(transformer, true);
+	}
+
+	/**
+	 * Wrap the given transformer as a sort descriptor to sort elements by a primitive
+	 * <code>int</code> key without boxing.
+	 * 
+	 * @param transformer the transformer to be the sort descriptor
+	 * @param ascending to sort elements ascending or descending
+	 * @return the builder to organize other sort descriptors
+	 */
+	public SortDescriptors<InputType> thenWithInt(IntTransformer<InputType> transformer, boolean ascending) {
+		_descriptors.add(new IntSortDescriptor<InputType>(transformer, ascending));
+		return this;
+	}
+
+	/**
+	 * Wrap the given transformer as a sort descriptor to sort elements <em>ascending</em>
+	 * by a primitive <code>long</code> key without boxing.
+	 * 
+	 * @param transformer the transformer to be the sort descriptor
+	 * @return the builder to organize other sort descriptors
+	 */
+	public SortDescriptors<InputType> thenWithLong(LongTransformer<InputType> transformer) {
+		return thenWithLong(transformer, true);
+	}
+
+	/**
+	 * Wrap the given transformer as a sort descriptor to sort elements by a primitive
+	 * <code>long</code> key without boxing.
+	 * 
+	 * @param transformer the transformer to be the sort descriptor
+	 * @param ascending to sort elements ascending or descending
+	 * @return the builder to organize other sort descriptors
+	 */
+	public SortDescriptors<InputType> thenWithLong(LongTransformer<InputType> transformer, boolean ascending) {
+		_descriptors.add(new LongSortDescriptor<InputType>(transformer, ascending));
+		return this;
+	}
+
+	/**
+	 * Wrap the given transformer as a sort descriptor to sort elements <em>ascending</em>
+	 * by a primitive <code>double</code> key without boxing.
+	 * 
+	 * @param transformer the transformer to be the sort descriptor
+	 * @return the builder to organize other sort descriptors
+	 */
+	public SortDescriptors<InputType> thenWithDouble(DoubleTransformer<InputType> transformer) {
+		return thenWithDouble(transformer, true);
+	}
+
+	/**
+	 * Wrap the given transformer as a sort descriptor to sort elements by a primitive
+	 * <code>double</code> key without boxing.
+	 * 
+	 * @param transformer the transformer to be the sort descriptor
+	 * @param ascending to sort elements ascending or descending
+	 * @return the builder to organize other sort descriptors
+	 */
+	public SortDescriptors<InputType> thenWithDouble(DoubleTransformer<InputType> transformer, boolean ascending) {
+		_descriptors.add(new DoubleSortDescriptor<InputType>(transformer, ascending));
+		return this;
+	}
+
 	/**
 	 * Wrap a sort descriptor to sort elements <em>ascending</em> based on the property name.
 	 * 
@@ -241,6 +456,49 @@ public class SortDescriptors<InputType> {
 		return this;
 	}
 
+	/**
+	 * Add a sort descriptor to sort elements <em>ascending</em> by the value of the
+	 * field.
+	 * 
+	 * @param fieldName the name of the field to sort
+	 * @return the builder to organize other sort descriptors
+	 * @see FieldSortDescriptor
+	 */
+	public SortDescriptors<InputType> thenWithField(String fieldName) {
+		return thenWithField(fieldName, true);
+	}
+
+	/**
+	 * Add a sort descriptor to sort elements by the value of the field. The field is
+	 * resolved and cached per runtime class of the elements.
+	 * 
+	 * @param fieldName the name of the field to sort
+	 * @param ascending to sort elements ascending or descending
+	 * @return the builder to organize other sort descriptors
+	 * @see FieldSortDescriptor
+	 */
+	public SortDescriptors<InputType> thenWithField(String fieldName, boolean ascending) {
+		_descriptors.add(new FieldSortDescriptor<InputType>(fieldName, ascending));
+		return this;
+	}
+
+	/**
+	 * Add a sort descriptor to sort elements of the given class by the value of the
+	 * field. The field is resolved in advance and the primitive fields are read
+	 * without boxing.
+	 * 
+	 * @param type the class of the elements
+	 * @param fieldName the name of the field to sort
+	 * @param ascending to sort elements ascending or descending
+	 * @return the builder to organize other sort descriptors
+	 * @throws IllegalArgumentException if there is no such instance field
+	 * @see FieldSortDescriptor#of(Class, String, boolean)
+	 */
+	public SortDescriptors<InputType> thenWithField(Class<InputType> type, String fieldName, boolean ascending) {
+		_descriptors.add(FieldSortDescriptor.of(type, fieldName, ascending));
+		return this;
+	}
+
 	/**
 	 * Return a sorted elements from the given elements (remain unchanged) with the
 	 * sort descriptors.
@@ -249,7 +507,7 @@ public class SortDescriptors<InputType> {
 	 * @return the sorted items
 	 */
 	public List<InputType> sortedList(Collection<InputType> items) {
-		return SortUtils.sortedList(items, _descriptors);
+		return compile().sortedList(items);
 	}
 
 	/**
@@ -258,12 +516,355 @@ public class SortDescriptors<InputType> {
 	 * @param items the items to sort
 	 */
 	public void sort(List<InputType> items) {
-		SortUtils.sort(items, _descriptors);
+		compile().sort(items);
+	}
+
+	/**
+	 * Get the permutation that sorts the given elements with the sort descriptors
+	 * without reordering them.
+	 * 
+	 * @param items the items to sort
+	 * @return the permutation of the indexes of the items in the sorted ordering
+	 * @see CompiledSortDescriptors#argsort(List)
+	 */
+	public int[] argsort(List<InputType> items) {
+		return compile().argsort(items);
+	}
+
+	/**
+	 * Return a sorted elements from the given elements (remain unchanged) adaptively
+	 * to their presortedness.
+	 * 
+	 * @param items the items to sort
+	 * @return the sorted items
+	 * @see CompiledSortDescriptors#adaptiveSort(List)
+	 */
+	public List<InputType> adaptiveSortedList(Collection<InputType> items) {
+		return compile().adaptiveSortedList(items);
+	}
+
+	/**
+	 * Sorted the given elements adaptively to their presortedness.
+	 * 
+	 * @param items the items to sort
+	 * @see CompiledSortDescriptors#adaptiveSort(List)
+	 */
+	public void adaptiveSort(List<InputType> items) {
+		compile().adaptiveSort(items);
+	}
+
+	/**
+	 * Return a sorted elements from the given elements (remain unchanged) by
+	 * refining the ties of each descriptor with the next one lazily.
+	 * 
+	 * @param items the items to sort
+	 * @return the sorted items
+	 * @see CompiledSortDescriptors#refinementSort(List)
+	 */
+	public List<InputType> refinementSortedList(Collection<InputType> items) {
+		return compile().refinementSortedList(items);
+	}
+
+	/**
+	 * Sorted the given elements by refining the ties of each descriptor with the
+	 * next one lazily.
+	 * 
+	 * @param items the items to sort
+	 * @see CompiledSortDescriptors#refinementSort(List)
+	 */
+	public void refinementSort(List<InputType> items) {
+		compile().refinementSort(items);
+	}
+
+	/**
+	 * Return a sorted elements from the given elements (remain unchanged) with the
+	 * sort descriptors by the radix sort if all the sort keys are fixed-width.
+	 * 
+	 * @param items the items to sort
+	 * @return the sorted items
+	 * @see CompiledSortDescriptors#radixSort(List)
+	 */
+	public List<InputType> radixSortedList(Collection<InputType> items) {
+		return compile().radixSortedList(items);
+	}
+
+	/**
+	 * Sorted the given elements with the sort descriptors by the radix sort if all
+	 * the sort keys are fixed-width.
+	 * 
+	 * @param items the items to sort
+	 * @see CompiledSortDescriptors#radixSort(List)
+	 */
+	public void radixSort(List<InputType> items) {
+		compile().radixSort(items);
+	}
+
+	/**
+	 * Return a sorted elements from the given elements (remain unchanged) by their
+	 * normalized keys.
+	 * 
+	 * @param items the items to sort
+	 * @return the sorted items
+	 * @see CompiledSortDescriptors#normalizedKeySort(List)
+	 */
+	public List<InputType> normalizedKeySortedList(Collection<InputType> items) {
+		return compile().normalizedKeySortedList(items);
+	}
+
+	/**
+	 * Sort the given elements by their normalized keys.
+	 * 
+	 * @param items the items to sort
+	 * @see CompiledSortDescriptors#normalizedKeySort(List)
+	 */
+	public void normalizedKeySort(List<InputType> items) {
+		compile().normalizedKeySort(items);
+	}
+
+	/**
+	 * Return a sorted elements from the given elements (remain unchanged) with the
+	 * sort descriptors in parallel with the common pool.
+	 * 
+	 * @param items the items to sort
+	 * @return the sorted items
+	 * @see CompiledSortDescriptors#parallelSort(List, ForkJoinPool, int)
+	 */
+	public List<InputType> parallelSortedList(Collection<InputType> items) {
+		return compile().parallelSortedList(items);
+	}
+
+	/**
+	 * Return a sorted elements from the given elements (remain unchanged) with the
+	 * sort descriptors in parallel with the given pool.
+	 * 
+	 * @param items the items to sort
+	 * @param pool the pool to run the sort tasks
+	 * @param threshold the minimum number of the items to sort in parallel
+	 * @return the sorted items
+	 * @see CompiledSortDescriptors#parallelSort(List, ForkJoinPool, int)
+	 */
+	public List<InputType> parallelSortedList(Collection<InputType> items, ForkJoinPool pool, int threshold) {
+		return compile().parallelSortedList(items, pool, threshold);
+	}
+
+	/**
+	 * Sorted the given elements with the sort descriptors in parallel with the
+	 * common pool.
+	 * 
+	 * @param items the items to sort
+	 * @see CompiledSortDescriptors#parallelSort(List, ForkJoinPool, int)
+	 */
+	public void parallelSort(List<InputType> items) {
+		compile().parallelSort(items);
+	}
+
+	/**
+	 * Sorted the given elements with the sort descriptors in parallel with the
+	 * given pool.
+	 * 
+	 * @param items the items to sort
+	 * @param pool the pool to run the sort tasks
+	 * @param threshold the minimum number of the items to sort in parallel
+	 * @see CompiledSortDescriptors#parallelSort(List, ForkJoinPool, int)
+	 */
+	public void parallelSort(List<InputType> items, ForkJoinPool pool, int threshold) {
+		compile().parallelSort(items, pool, threshold);
+	}
+
+	/**
+	 * Return a sorted elements from the given elements (remain unchanged) by
+	 * partitioning them with the leading descriptor.
+	 * 
+	 * @param items the items to sort
+	 * @return the sorted items
+	 * @see CompiledSortDescriptors#partitionSort(List, ForkJoinPool, int)
+	 */
+	public List<InputType> partitionSortedList(Collection<InputType> items) {
+		return compile().partitionSortedList(items);
+	}
+
+	/**
+	 * Return a sorted elements from the given elements (remain unchanged) by
+	 * partitioning them with the leading descriptor and sorting the partitions with
+	 * the given pool.
+	 * 
+	 * @param items the items to sort
+	 * @param pool the pool to sort the partitions
+	 * @param threshold the minimum number of the items to sort in parallel
+	 * @return the sorted items
+	 * @see CompiledSortDescriptors#partitionSort(List, ForkJoinPool, int)
+	 */
+	public List<InputType> partitionSortedList(Collection<InputType> items, ForkJoinPool pool, int threshold) {
+		return compile().partitionSortedList(items, pool, threshold);
+	}
+
+	/**
+	 * Sorted the given elements by partitioning them with the leading descriptor.
+	 * 
+	 * @param items the items to sort
+	 * @see CompiledSortDescriptors#partitionSort(List, ForkJoinPool, int)
+	 */
+	public void partitionSort(List<InputType> items) {
+		compile().partitionSort(items);
+	}
+
+	/**
+	 * Sorted the given elements by partitioning them with the leading descriptor
+	 * and sorting the partitions with the given pool.
+	 * 
+	 * @param items the items to sort
+	 * @param pool the pool to sort the partitions
+	 * @param threshold the minimum number of the items to sort in parallel
+	 * @see CompiledSortDescriptors#partitionSort(List, ForkJoinPool, int)
+	 */
+	public void partitionSort(List<InputType> items, ForkJoinPool pool, int threshold) {
+		compile().partitionSort(items, pool, threshold);
+	}
+
+	/**
+	 * Get the first {@code limit} elements of the sorted ordering of the given items
+	 * without sorting all the items.
+	 * 
+	 * @param limit the maximum number of the elements to get
+	 * @param items the items to select
+	 * @return the first elements in the sorted ordering
+	 * @see CompiledSortDescriptors#top(int, Iterator)
+	 */
+	public List<InputType> top(int limit, Iterable<InputType> items) {
+		return compile().top(limit, items);
+	}
+
+	/**
+	 * Get the first {@code limit} elements of the sorted ordering of the given items
+	 * without sorting or storing all the items.
+	 * 
+	 * @param limit the maximum number of the elements to get
+	 * @param items the items to select
+	 * @return the first elements in the sorted ordering
+	 * @see CompiledSortDescriptors#top(int, Iterator)
+	 */
+	public List<InputType> top(int limit, Iterator<InputType> items) {
+		return compile().top(limit, items);
+	}
+
+	/**
+	 * Get the last {@code limit} elements of the sorted ordering of the given items
+	 * without sorting all the items.
+	 * 
+	 * @param limit the maximum number of the elements to get
+	 * @param items the items to select
+	 * @return the last elements in the sorted ordering
+	 * @see CompiledSortDescriptors#bottom(int, Iterator)
+	 */
+	public List<InputType> bottom(int limit, Iterable<InputType> items) {
+		return compile().bottom(limit, items);
+	}
+
+	/**
+	 * Get the last {@code limit} elements of the sorted ordering of the given items
+	 * without sorting or storing all the items.
+	 * 
+	 * @param limit the maximum number of the elements to get
+	 * @param items the items to select
+	 * @return the last elements in the sorted ordering
+	 * @see CompiledSortDescriptors#bottom(int, Iterator)
+	 */
+	public List<InputType> bottom(int limit, Iterator<InputType> items) {
+		return compile().bottom(limit, items);
+	}
+
+	/**
+	 * Merge the given iterators whose elements are already sorted by this chain
+	 * into one sorted iteration lazily.
+	 * 
+	 * @param sources the sorted iterators to merge
+	 * @return the iterator of the merged elements
+	 * @see CompiledSortDescriptors#merge(List, long)
+	 */
+	public Iterator<InputType> merge(List<? extends Iterator<? extends InputType>> sources) {
+		return compile().merge(sources);
+	}
+
+	/**
+	 * Merge the given iterators whose elements are already sorted by this chain
+	 * into one sorted iteration lazily and stop after {@code limit} elements.
+	 * 
+	 * @param sources the sorted iterators to merge
+	 * @param limit the maximum number of the elements to iterate
+	 * @return the iterator of the merged elements
+	 * @see CompiledSortDescriptors#merge(List, long)
+	 */
+	public Iterator<InputType> merge(List<? extends Iterator<? extends InputType>> sources, long limit) {
+		return compile().merge(sources, limit);
+	}
+
+	/**
+	 * Sort the given items that may not fit in memory by spilling the sorted runs
+	 * of at most {@code runSize} elements to the temporary files.
+	 * 
+	 * @param items the items to sort
+	 * @param codec the codec to spill the elements
+	 * @param runSize the maximum number of the elements sorted in memory
+	 * @return the iterator of the sorted elements, which should be closed if it is not exhausted
+	 * @throws IOException if the runs cannot be spilled
+	 * @see CompiledSortDescriptors#externalSort(Iterator, ElementCodec, int)
+	 */
+	public CloseableIterator<InputType> externalSort(Iterator<? extends InputType> items, ElementCodec<InputType> codec, int runSize) throws IOException {
+		return compile().externalSort(items, codec, runSize);
+	}
+
+	/**
+	 * Get a {@link Collector} that sorts the elements of a stream into a list with
+	 * the sort descriptors.
+	 * 
+	 * @return the collector of the sorted list
+	 * @see CompiledSortDescriptors#toSortedList()
+	 */
+	public Collector<InputType, ?, List<InputType>> toSortedList() {
+		return compile().toSortedList();
+	}
+
+	/**
+	 * Get a comparator of the sort descriptors to feed {@link java.util.stream.Stream#sorted(Comparator)}
+	 * or the other APIs that take a comparator. The comparator is the compiled chain,
+	 * so it is not affected by the later changes to this builder.
+	 * 
+	 * @return the comparator of the sort descriptors
+	 * @see #compile()
+	 */
+	public Comparator<InputType> toComparator() {
+		return compile();
+	}
+
+	/**
+	 * Compile the sort descriptors into an immutable comparator. The compiled
+	 * instance is not affected by the later changes to this builder and can be
+	 * cached and shared by multiple threads to sort elements.
+	 * 
+	 * @return the compiled sort descriptors
+	 */
+	public CompiledSortDescriptors<InputType> compile() {
+		return new CompiledSortDescriptors<InputType>(_descriptors, _listener);
+	}
+
+	/**
+	 * Set the listener to instrument the sorts with the sort descriptors. The
+	 * listener overrides the global one set by {@link SortUtils#setSortListener(SortListener)}
+	 * and is kept by the compiled instances. See {@link SortListener} for the engines
+	 * that report to it.
+	 * 
+	 * @param listener the listener of the sorts, or null to use the global one
+	 * @return the builder to organize other sort descriptors
+	 */
+	public SortDescriptors<InputType> setSortListener(SortListener listener) {
+		_listener = listener;
+		return this;
 	}
 
 	/**
+	 * Get the sort descriptors organized by the builder.
 	 * 
-	 * @return
+	 * @return the sort descriptors
 	 */
 	List<SortDescriptor<InputType>> getDescriptors() {
 		return _descriptors;
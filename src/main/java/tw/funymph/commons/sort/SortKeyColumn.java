@@ -0,0 +1,103 @@
+/* SortKeyColumn.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+/**
+ * This abstract class represents the precomputed sort keys of one sort descriptor
+ * for all the elements to sort. The keys are extracted once per element, so the
+ * sort engines can compare the elements by their indexes without transforming
+ * the elements again.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+abstract class SortKeyColumn implements IndexComparator {
+
+	/**
+	 * Extract the sort keys of the given elements with the sort descriptor.
+	 * 
+	 * @param descriptor the sort descriptor to extract the keys
+	 * @param direction the direction multiplier; <code>1</code> for ascending and <code>-1</code> for descending
+	 * @param items the elements to extract the keys
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the column of the extracted sort keys
+	 */
+	static <InputType> SortKeyColumn extract(SortDescriptor<InputType> descriptor, int direction, Object[] items) {
+		SortKeyColumn column = create(descriptor, direction, items.length);
+		column.extract(items, 0, items.length);
+		return column;
+	}
+
+	/**
+	 * Create an empty column to store the sort keys of the sort descriptor. The keys
+	 * are extracted later by {@link #extract(Object[], int, int)}.
+	 * 
+	 * @param descriptor the sort descriptor to extract the keys
+	 * @param direction the direction multiplier; <code>1</code> for ascending and <code>-1</code> for descending
+	 * @param size the number of the elements
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the empty column
+	 */
+	@SuppressWarnings("unchecked")
+	static <InputType> SortKeyColumn create(SortDescriptor<InputType> descriptor, int direction, int size) {
+		if (descriptor instanceof PrimitiveSortDescriptor) {
+			return ((PrimitiveSortDescriptor<InputType>) descriptor).createColumn(size, direction);
+		}
+		return new ComparableKeyColumn<InputType>(descriptor, size, direction);
+	}
+
+	/**
+	 * Extract the sort keys of the elements in the given range. The column can be
+	 * filled by multiple threads as long as the ranges do not overlap.
+	 * 
+	 * @param items the elements to extract the keys
+	 * @param from the index of the first element to extract (inclusive)
+	 * @param to the index of the last element to extract (exclusive)
+	 */
+	abstract void extract(Object[] items, int from, int to);
+
+	/**
+	 * Compare the key of an element in this column with the key of an element in
+	 * another column of the same sort descriptor, e.g., the column extracted from
+	 * another chunk of the elements.
+	 * 
+	 * @param index1 the index of the element in this column
+	 * @param other the other column of the same sort descriptor
+	 * @param index2 the index of the element in the other column
+	 * @return a negative integer, zero, or a positive integer as the first key is
+	 *         before, equal to, or after the second key in the sorted ordering
+	 */
+	abstract int compare(int index1, SortKeyColumn other, int index2);
+
+	/**
+	 * Convert the keys to the fixed-width form for the radix sort.
+	 * 
+	 * @return the fixed-width keys; <code>null</code> if the keys are not fixed-width
+	 */
+	FixedWidthKeys toFixedWidthKeys() {
+		return null;
+	}
+}
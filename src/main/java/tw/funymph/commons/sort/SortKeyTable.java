@@ -0,0 +1,135 @@
+/* SortKeyTable.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+/**
+ * This class holds the precomputed sort keys of all the sort descriptors for
+ * the elements to sort (a.k.a. decorate-sort-undecorate). Each descriptor
+ * transforms each element exactly once, and the elements are then compared
+ * by their indexes with the keys in the table.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+class SortKeyTable implements IndexComparator {
+
+	private int _size;
+	private SortKeyColumn[] _columns;
+
+	/**
+	 * Build the key table of the given elements with the sort descriptors.
+	 * 
+	 * @param items the elements to extract the keys
+	 * @param descriptors the compiled sort descriptors
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the key table
+	 */
+	static <InputType> SortKeyTable build(Object[] items, CompiledSortDescriptors<InputType> descriptors) {
+		SortKeyColumn[] columns = new SortKeyColumn[descriptors.size()];
+		for (int index = 0; index < columns.length; index++) {
+			columns[index] = SortKeyColumn.extract(descriptors.getDescriptor(index), descriptors.getDirection(index), items);
+		}
+		return new SortKeyTable(columns, items.length);
+	}
+
+	/**
+	 * Construct a <code>SortKeyTable</code> instance with the key columns.
+	 * 
+	 * @param columns the key columns in the descriptor ordering
+	 * @param size the number of the elements
+	 */
+	SortKeyTable(SortKeyColumn[] columns, int size) {
+		_size = size;
+		_columns = columns;
+	}
+
+	@Override
+	public int compare(int index1, int index2) {
+		for (SortKeyColumn column : _columns) {
+			int result = column.compare(index1, index2);
+			if (result != 0) {
+				return result;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Compare an element in this table with an element in another table built by
+	 * the same sort descriptors.
+	 * 
+	 * @param index1 the index of the element in this table
+	 * @param other the other table
+	 * @param index2 the index of the element in the other table
+	 * @return a negative integer, zero, or a positive integer as the first element
+	 *         is before, equal to, or after the second element in the sorted ordering
+	 */
+	int compare(int index1, SortKeyTable other, int index2) {
+		for (int column = 0; column < _columns.length; column++) {
+			int result = _columns[column].compare(index1, other._columns[column], index2);
+			if (result != 0) {
+				return result;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Sort the indexes of the elements with the keys in the table.
+	 * 
+	 * @return the sorted indexes
+	 */
+	int[] sortedIndexes() {
+		int[] indexes = IndexSort.identity(size());
+		IndexSort.sort(indexes, this);
+		return indexes;
+	}
+
+	/**
+	 * Convert all the key columns to the fixed-width form for the radix sort.
+	 * 
+	 * @return the fixed-width key columns; <code>null</code> if any column is not fixed-width
+	 */
+	FixedWidthKeys[] toFixedWidthKeys() {
+		FixedWidthKeys[] columns = new FixedWidthKeys[_columns.length];
+		for (int index = 0; index < columns.length; index++) {
+			columns[index] = _columns[index].toFixedWidthKeys();
+			if (columns[index] == null) {
+				return null;
+			}
+		}
+		return columns;
+	}
+
+	/**
+	 * Get the number of the elements in the table.
+	 * 
+	 * @return the number of the elements
+	 */
+	int size() {
+		return _size;
+	}
+}
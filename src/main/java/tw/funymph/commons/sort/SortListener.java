@@ -0,0 +1,55 @@
+/* SortListener.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+/**
+ * This interface receives the statistics of the instrumented sorts. A listener is
+ * either set for all the sorts by {@link SortUtils#setSortListener(SortListener)}
+ * or for the sorts of a chain by {@link SortDescriptors#setSortListener(SortListener)}.
+ * The sorts are not instrumented at all if no listener is set. The listener is
+ * notified by the sorting thread after the sort completes, so it should return
+ * quickly and be thread-safe if it is shared.
+ * <p>
+ * All the engines that sort a whole list or compute its permutation report to
+ * the listener: the comparison, adaptive, refinement, radix, normalized key,
+ * parallel, and partition sorts and the argsort. The top and bottom selections,
+ * the merges, the external sorts, and the comparisons of a chain used directly as
+ * a {@link java.util.Comparator} are not instrumented, since they have no single
+ * completion point. A collector of {@link CompiledSortDescriptors#toSortedList()}
+ * reports a sort per collected chunk.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public interface SortListener {
+
+	/**
+	 * Invoked when a sort completes.
+	 * 
+	 * @param statistics the statistics of the sort
+	 */
+	void sortCompleted(SortStatistics statistics);
+}
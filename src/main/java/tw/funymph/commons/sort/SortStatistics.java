@@ -0,0 +1,200 @@
+/* SortStatistics.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+/**
+ * This class holds the statistics of an instrumented sort: the number of the
+ * comparisons, the number of the {@code transform} invocations of each
+ * descriptor, how often each descriptor ties and falls through to the next
+ * descriptor, and the elapsed time. The transforms and the elapsed time are
+ * measured for all the engines, while the comparisons, the ties, and the
+ * extraction time are {@link #UNKNOWN} unless the sort is the comparison sort of
+ * {@link CompiledSortDescriptors#sort(java.util.List)}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public final class SortStatistics {
+
+	/**
+	 * The value of a count or a time that the engine of the sort does not measure.
+	 */
+	public static final long UNKNOWN = -1;
+
+	private final SortDescriptor<?>[] _descriptors;
+	private final int _size;
+	private final long _comparisons;
+	private final long[] _transforms;
+	private final long[] _ties;
+	private final long _extractionNanos;
+	private final long _elapsedNanos;
+
+	/**
+	 * Construct a <code>SortStatistics</code> instance.
+	 * 
+	 * @param descriptors the sort descriptors of the chain
+	 * @param size the number of the sorted elements
+	 * @param comparisons the number of the comparisons
+	 * @param transforms the number of the transform invocations of each descriptor
+	 * @param ties the number of the ties of each descriptor, or null if they are unknown
+	 * @param extractionNanos the time to extract the sort keys in nanoseconds
+	 * @param elapsedNanos the time of the whole sort in nanoseconds
+	 */
+	SortStatistics(SortDescriptor<?>[] descriptors, int size, long comparisons, long[] transforms, long[] ties, long extractionNanos, long elapsedNanos) {
+		_descriptors = descriptors;
+		_size = size;
+		_comparisons = comparisons;
+		_transforms = transforms;
+		_ties = ties;
+		_extractionNanos = extractionNanos;
+		_elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Get the number of the sort descriptors of the chain.
+	 * 
+	 * @return the number of the sort descriptors
+	 */
+	public int getDescriptorCount() {
+		return _descriptors.length;
+	}
+
+	/**
+	 * Get the sort descriptor at the given position of the chain.
+	 * 
+	 * @param index the position of the sort descriptor
+	 * @return the sort descriptor
+	 */
+	public SortDescriptor<?> getDescriptor(int index) {
+		return _descriptors[index];
+	}
+
+	/**
+	 * Get the number of the sorted elements.
+	 * 
+	 * @return the number of the elements
+	 */
+	public int getSize() {
+		return _size;
+	}
+
+	/**
+	 * Get the number of the comparisons between two elements.
+	 * 
+	 * @return the number of the comparisons, or {@link #UNKNOWN} if they are not measured
+	 */
+	public long getComparisons() {
+		return _comparisons;
+	}
+
+	/**
+	 * Get the number of the {@code transform} invocations of the descriptor at the
+	 * given position.
+	 * 
+	 * @param index the position of the sort descriptor
+	 * @return the number of the transform invocations
+	 */
+	public long getTransforms(int index) {
+		return _transforms[index];
+	}
+
+	/**
+	 * Get the number of the comparisons in which the descriptor at the given position
+	 * was evaluated, i.e., all the previous descriptors tied.
+	 * 
+	 * @param index the position of the sort descriptor
+	 * @return the number of the evaluations, or {@link #UNKNOWN} if they are not measured
+	 */
+	public long getEvaluations(int index) {
+		if (_ties == null) {
+			return UNKNOWN;
+		}
+		return index == 0? _comparisons : _ties[index - 1];
+	}
+
+	/**
+	 * Get the number of the comparisons in which the descriptor at the given position
+	 * tied and fell through to the next descriptor.
+	 * 
+	 * @param index the position of the sort descriptor
+	 * @return the number of the ties, or {@link #UNKNOWN} if they are not measured
+	 */
+	public long getTies(int index) {
+		return _ties != null? _ties[index] : UNKNOWN;
+	}
+
+	/**
+	 * Get the rate of the ties among the evaluations of the descriptor at the given
+	 * position.
+	 * 
+	 * @param index the position of the sort descriptor
+	 * @return the tie rate between 0 and 1; 0 if the descriptor was never evaluated;
+	 *         {@link Double#NaN} if the ties are not measured
+	 */
+	public double getTieRate(int index) {
+		if (_ties == null) {
+			return Double.NaN;
+		}
+		long evaluations = getEvaluations(index);
+		return evaluations > 0? (double) _ties[index] / evaluations : 0;
+	}
+
+	/**
+	 * Get the time to extract the sort keys in nanoseconds.
+	 * 
+	 * @return the extraction time, or {@link #UNKNOWN} if it is not measured
+	 */
+	public long getExtractionNanos() {
+		return _extractionNanos;
+	}
+
+	/**
+	 * Get the wall time of the whole sort in nanoseconds.
+	 * 
+	 * @return the elapsed time
+	 */
+	public long getElapsedNanos() {
+		return _elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		if (_ties == null) {
+			builder.append(String.format("%d items, %.3f ms", _size, _elapsedNanos / 1e6));
+		}
+		else {
+			builder.append(String.format("%d items, %d comparisons, %.3f ms (%.3f ms extracting keys)", _size, _comparisons, _elapsedNanos / 1e6, _extractionNanos / 1e6));
+		}
+		for (int index = 0; index < _descriptors.length; index++) {
+			builder.append(String.format("%n  #%d %s: %d transforms", index, _descriptors[index].getClass().getSimpleName(), _transforms[index]));
+			if (_ties != null) {
+				builder.append(String.format(", %d evaluations, %.1f%% ties", getEvaluations(index), getTieRate(index) * 100));
+			}
+		}
+		return builder.toString();
+	}
+}
@@ -24,11 +24,10 @@
  */
 package tw.funymph.commons.sort;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * This class provides a set of methods to sort elements in Java Collection with
@@ -40,6 +39,30 @@ import java.util.List;
  */
 public class SortUtils {
 
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+
+	private static volatile SortListener _sortListener;
+
+	/**
+	 * Set the listener to instrument all the sorts of this class and the ones of the
+	 * chains without their own listeners. See {@link SortListener} for the engines
+	 * that report to it. The sorts are not instrumented if the listener is null.
+	 * 
+	 * @param listener the listener of the sorts, or null to disable the instrumentation
+	 */
+	public static void setSortListener(SortListener listener) {
+		_sortListener = listener;
+	}
+
+	/**
+	 * Get the listener that instruments all the sorts.
+	 * 
+	 * @return the listener of the sorts, or null if the instrumentation is disabled
+	 */
+	public static SortListener getSortListener() {
+		return _sortListener;
+	}
+
 	/**
 	 * Get the sorted items with the given sort descriptors. This method supports multiple sort
 	 * criteria that sorts the items by the first descriptor, if there are items whose order
@@ -58,9 +81,7 @@ public class SortUtils {
 			throw new IllegalArgumentException();
 		}
 
-		List<InputType> result = new ArrayList<InputType>(items);
-		sort(result, descriptors);
-		return result;
+		return new CompiledSortDescriptors<InputType>(descriptors).sortedList(items);
 	}
 
 	/**
@@ -68,63 +89,236 @@ public class SortUtils {
 	 * criteria that sorts the items by the first descriptor, if there are items whose order
 	 * can not be determined by the descriptor, the method uses the second descriptor in
 	 * the array and so on. Each descriptor can decide to sort items ascending or descending.
+	 * The sort keys are extracted once per item and descriptor before sorting, i.e., each
+	 * descriptor transforms each item exactly once. The sort is stable.
 	 * 
 	 * @param items the items to sort
 	 * @param descriptors the sort descriptors
 	 * @param <InputType> the type of the elements to be sorted
 	 * @throws IllegalArgumentException either {@code items} is null or {@code descriptors} is null
 	 */
-	@SuppressWarnings("unchecked")
 	public static <InputType> void sort(List<InputType> items, final List<SortDescriptor<InputType>> descriptors) {
 		if (items == null || descriptors == null) {
 			throw new IllegalArgumentException();
 		}
 
-		Collections.sort(items, new Comparator<InputType>() {
-
-			@Override
-			public int compare(InputType item1, InputType item2) {
-				return compare(item1, item2, 0);
-			}
-
-			/**
-			 * Compare the given two items with the descriptor specified by the index.
-			 * 
-			 * @param item1 the first item to compare
-			 * @param item2 the second item to compare
-			 * @param descriptorIndex the descriptor index in the array
-			 * @return the compare result
-			 */
-			@SuppressWarnings({ "rawtypes" })
-			private int compare(InputType item1, InputType item2, int descriptorIndex) {
-				SortDescriptor<InputType> descriptor = descriptors.get(descriptorIndex);
-				Comparable key1 = descriptor.transform(item1);
-				Comparable key2 = descriptor.transform(item2);
-				int result = 0;
-				if (key1 != null && key2 != null) {
-					result = descriptor.isAscending()? key1.compareTo(key2) : key2.compareTo(key1);
-				}
-				if (key1 != null && key2 == null) {
-					return descriptor.isAscending()? 1 : -1;
-				}
-				if (key1 == null && key2 != null) {
-					return descriptor.isAscending()? -1 : 1;
-				}
-				if (result == 0 && hasNextDescriptor(descriptorIndex)) {
-					return compare(item1, item2, descriptorIndex + 1);
-				}
-				return result;
-			}
-
-			/**
-			 * Check whether the given index has the next descriptor.
-			 * 
-			 * @param index the current descriptor index
-			 * @return true if has the next descriptor
-			 */
-			private boolean hasNextDescriptor(int index) {
-				return (index + 1) < descriptors.size();
-			}
-		});
+		new CompiledSortDescriptors<InputType>(descriptors).sort(items);
+	}
+
+	/**
+	 * Get the permutation that sorts the items with the given sort descriptors. The
+	 * item at position <code>i</code> of the sorted ordering is the item at position
+	 * <code>permutation[i]</code> of the list, and the list remains unchanged. Only
+	 * the <code>int</code> indexes are sorted over the precomputed keys, so it fits
+	 * the lists shared by others or indexed by several parallel arrays; see
+	 * {@link Permutations} to apply the permutation to them. The sort is stable.
+	 * 
+	 * @param items the items to sort
+	 * @param descriptors the sort descriptors
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the permutation of the indexes of the items in the sorted ordering
+	 * @throws IllegalArgumentException either {@code items} is null or {@code descriptors} is null
+	 */
+	public static <InputType> int[] argsort(List<InputType> items, List<SortDescriptor<InputType>> descriptors) {
+		if (items == null || descriptors == null) {
+			throw new IllegalArgumentException();
+		}
+
+		return new CompiledSortDescriptors<InputType>(descriptors).argsort(items);
+	}
+
+	/**
+	 * Get the sorted items with the given sort descriptors adaptively. The items that
+	 * are already sorted, strictly reverse-sorted, or sorted except for a small tail
+	 * are sorted in about linear time; otherwise, the items are sorted as
+	 * {@link #sortedList(Collection, List)} does. Note that the ordering of the items
+	 * in the collection remains unchanged.
+	 * 
+	 * @param items the items to sort
+	 * @param descriptors the sort descriptors
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the sort items
+	 * @throws IllegalArgumentException either {@code items} is null or {@code descriptors} is null
+	 */
+	public static <InputType> List<InputType> adaptiveSortedList(Collection<InputType> items, List<SortDescriptor<InputType>> descriptors) {
+		if (items == null || descriptors == null) {
+			throw new IllegalArgumentException();
+		}
+
+		return new CompiledSortDescriptors<InputType>(descriptors).adaptiveSortedList(items);
+	}
+
+	/**
+	 * Sort the items with the given sort descriptors adaptively. A linear pass with
+	 * the descriptor chain leaves the sorted items unchanged, reverses the strictly
+	 * reverse-sorted items, and sorts only the unsorted tail of the items that are
+	 * sorted except for a few appended items and merges it into the sorted prefix.
+	 * Otherwise, the items are sorted as {@link #sort(List, List)} does. The sort is
+	 * stable.
+	 * 
+	 * @param items the items to sort
+	 * @param descriptors the sort descriptors
+	 * @param <InputType> the type of the elements to be sorted
+	 * @throws IllegalArgumentException either {@code items} is null or {@code descriptors} is null
+	 */
+	public static <InputType> void adaptiveSort(List<InputType> items, List<SortDescriptor<InputType>> descriptors) {
+		if (items == null || descriptors == null) {
+			throw new IllegalArgumentException();
+		}
+
+		new CompiledSortDescriptors<InputType>(descriptors).adaptiveSort(items);
+	}
+
+	/**
+	 * Get the sorted items with the given sort descriptors by the radix sort. If all
+	 * the sort keys are fixed-width, i.e., primitives, booleans, characters, numbers,
+	 * or enums, the descriptor chain is sorted as a composite key with a stable LSD
+	 * radix sort; otherwise, the items are sorted as {@link #sortedList(Collection, List)}
+	 * does. Note that the ordering of the items in the collection remains unchanged.
+	 * 
+	 * @param items the items to sort
+	 * @param descriptors the sort descriptors
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the sort items
+	 * @throws IllegalArgumentException either {@code items} is null or {@code descriptors} is null
+	 */
+	public static <InputType> List<InputType> radixSortedList(Collection<InputType> items, List<SortDescriptor<InputType>> descriptors) {
+		if (items == null || descriptors == null) {
+			throw new IllegalArgumentException();
+		}
+
+		return new CompiledSortDescriptors<InputType>(descriptors).radixSortedList(items);
+	}
+
+	/**
+	 * Sort the items with the given sort descriptors by the radix sort. If all the
+	 * sort keys are fixed-width, i.e., primitives, booleans, characters, numbers, or
+	 * enums, the descriptor chain is sorted as a composite key with a stable LSD radix
+	 * sort; otherwise, the items are sorted as {@link #sort(List, List)} does.
+	 * 
+	 * @param items the items to sort
+	 * @param descriptors the sort descriptors
+	 * @param <InputType> the type of the elements to be sorted
+	 * @throws IllegalArgumentException either {@code items} is null or {@code descriptors} is null
+	 */
+	public static <InputType> void radixSort(List<InputType> items, List<SortDescriptor<InputType>> descriptors) {
+		if (items == null || descriptors == null) {
+			throw new IllegalArgumentException();
+		}
+
+		new CompiledSortDescriptors<InputType>(descriptors).radixSort(items);
+	}
+
+	/**
+	 * Get the sorted items with the given sort descriptors in parallel with the common
+	 * pool. The list is sorted sequentially if it has less than
+	 * {@link #DEFAULT_PARALLEL_THRESHOLD} items. Note that the ordering of the items in
+	 * the collection remains unchanged.
+	 * 
+	 * @param items the items to sort
+	 * @param descriptors the sort descriptors
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the sort items
+	 * @throws IllegalArgumentException either {@code items} is null or {@code descriptors} is null
+	 */
+	public static <InputType> List<InputType> parallelSortedList(Collection<InputType> items, List<SortDescriptor<InputType>> descriptors) {
+		return parallelSortedList(items, descriptors, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * Get the sorted items with the given sort descriptors in parallel with the given
+	 * pool. See {@link #parallelSort(List, List, ForkJoinPool, int)} for the details.
+	 * Note that the ordering of the items in the collection remains unchanged.
+	 * 
+	 * @param items the items to sort
+	 * @param descriptors the sort descriptors
+	 * @param pool the pool to run the sort tasks
+	 * @param threshold the minimum number of the items to sort in parallel
+	 * @param <InputType> the type of the elements to be sorted
+	 * @return the sort items
+	 * @throws IllegalArgumentException any of {@code items}, {@code descriptors}, and {@code pool} is null
+	 */
+	public static <InputType> List<InputType> parallelSortedList(Collection<InputType> items, List<SortDescriptor<InputType>> descriptors, ForkJoinPool pool, int threshold) {
+		if (items == null || descriptors == null) {
+			throw new IllegalArgumentException();
+		}
+
+		return new CompiledSortDescriptors<InputType>(descriptors).parallelSortedList(items, pool, threshold);
+	}
+
+	/**
+	 * Sort the items with the given sort descriptors in parallel with the common pool.
+	 * The list is sorted sequentially if it has less than {@link #DEFAULT_PARALLEL_THRESHOLD}
+	 * items.
+	 * 
+	 * @param items the items to sort
+	 * @param descriptors the sort descriptors
+	 * @param <InputType> the type of the elements to be sorted
+	 * @throws IllegalArgumentException either {@code items} is null or {@code descriptors} is null
+	 */
+	public static <InputType> void parallelSort(List<InputType> items, List<SortDescriptor<InputType>> descriptors) {
+		parallelSort(items, descriptors, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * Sort the items with the given sort descriptors in parallel with the given pool.
+	 * The sort keys are extracted in parallel, so the descriptors must be thread-safe.
+	 * If the number of the items is less than the threshold, the items are sorted
+	 * sequentially as {@link #sort(List, List)} does. The sort is stable.
+	 * 
+	 * @param items the items to sort
+	 * @param descriptors the sort descriptors
+	 * @param pool the pool to run the sort tasks
+	 * @param threshold the minimum number of the items to sort in parallel
+	 * @param <InputType> the type of the elements to be sorted
+	 * @throws IllegalArgumentException any of {@code items}, {@code descriptors}, and {@code pool} is null
+	 */
+	public static <InputType> void parallelSort(List<InputType> items, List<SortDescriptor<InputType>> descriptors, ForkJoinPool pool, int threshold) {
+		if (items == null || descriptors == null) {
+			throw new IllegalArgumentException();
+		}
+
+		new CompiledSortDescriptors<InputType>(descriptors).parallelSort(items, pool, threshold);
+	}
+
+	/**
+	 * Compare the given two sort keys ascending. The <code>null</code> key is less
+	 * than any other keys.
+	 * 
+	 * @param key1 the first key to compare
+	 * @param key2 the second key to compare
+	 * @return <code>-1</code>, <code>0</code>, or <code>1</code> as the first key is
+	 *         less than, equal to, or greater than the second key
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	static int compareKeys(Comparable key1, Comparable key2) {
+		if (key1 != null && key2 != null) {
+			return Integer.signum(key1.compareTo(key2));
+		}
+		if (key1 != null && key2 == null) {
+			return 1;
+		}
+		if (key1 == null && key2 != null) {
+			return -1;
+		}
+		return 0;
+	}
+
+	/**
+	 * Write the elements of the snapshot back to the items in the order of the
+	 * given indexes.
+	 * 
+	 * @param items the items to reorder
+	 * @param snapshot the snapshot of the items before sorting
+	 * @param indexes the sorted indexes of the snapshot
+	 * @param <InputType> the type of the elements to be sorted
+	 */
+	@SuppressWarnings("unchecked")
+	static <InputType> void reorder(List<InputType> items, Object[] snapshot, int[] indexes) {
+		ListIterator<InputType> iterator = items.listIterator();
+		for (int index : indexes) {
+			iterator.next();
+			iterator.set((InputType) snapshot[index]);
+		}
 	}
 }
@@ -0,0 +1,526 @@
+/* SortedList.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * This class is a list that keeps its elements sorted by a compiled descriptor
+ * chain as they are added or removed, so there is no need to sort the whole list
+ * again after every change. The elements are held by a balanced binary tree whose
+ * nodes count their subtrees, so adding, removing and getting an element by its
+ * position take O(log n) time. The sort keys of an element are extracted once
+ * when it is added and kept in its node; if an element is mutated in a way that
+ * changes its keys, call {@link #reposition(Object)} to move it to its new
+ * position. The equal elements are ordered by the time they are added.
+ * <p>
+ * The list holds distinct instances, i.e., adding an instance that is already in
+ * the list has no effect, and the instances are identified by identity rather
+ * than {@link Object#equals(Object)}. The list does not support adding or setting
+ * an element at a position. It is not thread-safe.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ * @param <InputType> the type of the elements
+ */
+public class SortedList<InputType> extends AbstractList<InputType> {
+
+	private CompiledSortDescriptors<InputType> _descriptors;
+	private Map<InputType, Node<InputType>> _nodes;
+	private Node<InputType> _root;
+	private long _sequence;
+
+	/**
+	 * Construct an empty <code>SortedList</code> instance.
+	 * 
+	 * @param descriptors the compiled sort descriptors
+	 * @throws IllegalArgumentException if {@code descriptors} is null
+	 */
+	public SortedList(CompiledSortDescriptors<InputType> descriptors) {
+		if (descriptors == null) {
+			throw new IllegalArgumentException();
+		}
+		_descriptors = descriptors;
+		_nodes = new IdentityHashMap<InputType, Node<InputType>>();
+	}
+
+	/**
+	 * Construct a <code>SortedList</code> instance with the given elements.
+	 * 
+	 * @param descriptors the compiled sort descriptors
+	 * @param items the initial elements
+	 * @throws IllegalArgumentException either {@code descriptors} or {@code items} is null
+	 */
+	public SortedList(CompiledSortDescriptors<InputType> descriptors, Collection<? extends InputType> items) {
+		this(descriptors);
+		if (items == null) {
+			throw new IllegalArgumentException();
+		}
+		addAll(items);
+	}
+
+	/**
+	 * Add the given element at its sorted position.
+	 * 
+	 * @param item the element to add
+	 * @return {@code true} if the element is added; {@code false} if it is already in the list
+	 */
+	@Override
+	public boolean add(InputType item) {
+		if (_nodes.containsKey(item)) {
+			return false;
+		}
+		Node<InputType> node = new Node<InputType>(item, extractKeys(item), _sequence++);
+		_root = insert(_root, node);
+		_nodes.put(item, node);
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * Remove the given element.
+	 * 
+	 * @param item the element to remove
+	 * @return {@code true} if the element is removed; {@code false} if it is not in the list
+	 */
+	@Override
+	public boolean remove(Object item) {
+		Node<InputType> node = _nodes.remove(item);
+		if (node == null) {
+			return false;
+		}
+		_root = delete(_root, node);
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * Remove the element at the given position.
+	 * 
+	 * @param index the position of the element
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException if the position is out of the range
+	 */
+	@Override
+	public InputType remove(int index) {
+		InputType item = get(index);
+		remove(item);
+		return item;
+	}
+
+	/**
+	 * Move the given element to its sorted position after its sort keys are changed.
+	 * The element keeps its ordering among the equal elements by the time it was
+	 * added.
+	 * 
+	 * @param item the mutated element
+	 * @return {@code true} if the element is moved; {@code false} if it is not in the list
+	 */
+	public boolean reposition(InputType item) {
+		Node<InputType> node = _nodes.get(item);
+		if (node == null) {
+			return false;
+		}
+		_root = delete(_root, node);
+		node.reset(extractKeys(item));
+		_root = insert(_root, node);
+		modCount++;
+		return true;
+	}
+
+	@Override
+	public InputType get(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException(String.valueOf(index));
+		}
+		Node<InputType> node = _root;
+		while (true) {
+			int leftSize = size(node._left);
+			if (index < leftSize) {
+				node = node._left;
+			}
+			else if (index > leftSize) {
+				index -= leftSize + 1;
+				node = node._right;
+			}
+			else {
+				return node._item;
+			}
+		}
+	}
+
+	@Override
+	public int indexOf(Object item) {
+		Node<InputType> target = _nodes.get(item);
+		if (target == null) {
+			return -1;
+		}
+		int index = 0;
+		Node<InputType> node = _root;
+		while (node != target) {
+			if (compare(target, node) < 0) {
+				node = node._left;
+			}
+			else {
+				index += size(node._left) + 1;
+				node = node._right;
+			}
+		}
+		return index + size(node._left);
+	}
+
+	@Override
+	public int lastIndexOf(Object item) {
+		return indexOf(item);
+	}
+
+	@Override
+	public boolean contains(Object item) {
+		return _nodes.containsKey(item);
+	}
+
+	@Override
+	public int size() {
+		return size(_root);
+	}
+
+	@Override
+	public void clear() {
+		_root = null;
+		_nodes.clear();
+		modCount++;
+	}
+
+	@Override
+	public Iterator<InputType> iterator() {
+		return new TreeIterator();
+	}
+
+	/**
+	 * Extract the sort keys of the given element.
+	 * 
+	 * @param item the element
+	 * @return the sort keys
+	 */
+	private Comparable<?>[] extractKeys(InputType item) {
+		Comparable<?>[] keys = new Comparable<?>[_descriptors.size()];
+		for (int index = 0; index < keys.length; index++) {
+			keys[index] = _descriptors.getDescriptor(index).transform(item);
+		}
+		return keys;
+	}
+
+	/**
+	 * Compare the given two nodes by their sort keys, then by their sequences.
+	 * 
+	 * @param node1 the first node
+	 * @param node2 the second node
+	 * @return the compare result
+	 */
+	private int compare(Node<InputType> node1, Node<InputType> node2) {
+		for (int index = 0; index < node1._keys.length; index++) {
+			int result = SortUtils.compareKeys(node1._keys[index], node2._keys[index]);
+			if (result != 0) {
+				return result * _descriptors.getDirection(index);
+			}
+		}
+		return Long.compare(node1._sequence, node2._sequence);
+	}
+
+	/**
+	 * Insert the given node into the subtree.
+	 * 
+	 * @param root the root of the subtree
+	 * @param node the node to insert
+	 * @return the new root of the subtree
+	 */
+	private Node<InputType> insert(Node<InputType> root, Node<InputType> node) {
+		if (root == null) {
+			return node;
+		}
+		if (compare(node, root) < 0) {
+			root._left = insert(root._left, node);
+		}
+		else {
+			root._right = insert(root._right, node);
+		}
+		return balance(root);
+	}
+
+	/**
+	 * Delete the given node from the subtree.
+	 * 
+	 * @param root the root of the subtree
+	 * @param node the node to delete
+	 * @return the new root of the subtree
+	 */
+	private Node<InputType> delete(Node<InputType> root, Node<InputType> node) {
+		if (root == node) {
+			if (root._left == null || root._right == null) {
+				Node<InputType> child = root._left != null? root._left : root._right;
+				root._left = root._right = null;
+				return child;
+			}
+			Node<InputType> successor = root._right;
+			while (successor._left != null) {
+				successor = successor._left;
+			}
+			successor._right = deleteFirst(root._right);
+			successor._left = root._left;
+			root._left = root._right = null;
+			return balance(successor);
+		}
+		if (compare(node, root) < 0) {
+			root._left = delete(root._left, node);
+		}
+		else {
+			root._right = delete(root._right, node);
+		}
+		return balance(root);
+	}
+
+	/**
+	 * Delete the first node from the subtree.
+	 * 
+	 * @param root the root of the subtree
+	 * @return the new root of the subtree
+	 */
+	private Node<InputType> deleteFirst(Node<InputType> root) {
+		if (root._left == null) {
+			return root._right;
+		}
+		root._left = deleteFirst(root._left);
+		return balance(root);
+	}
+
+	/**
+	 * Update the height and the size of the given node and rotate it if the heights
+	 * of its subtrees differ by more than one.
+	 * 
+	 * @param node the node to balance
+	 * @return the new root of the subtree
+	 */
+	private static <InputType> Node<InputType> balance(Node<InputType> node) {
+		int difference = height(node._left) - height(node._right);
+		if (difference > 1) {
+			if (height(node._left._left) < height(node._left._right)) {
+				node._left = rotateLeft(node._left);
+			}
+			return rotateRight(node);
+		}
+		if (difference < -1) {
+			if (height(node._right._right) < height(node._right._left)) {
+				node._right = rotateRight(node._right);
+			}
+			return rotateLeft(node);
+		}
+		node.update();
+		return node;
+	}
+
+	/**
+	 * Rotate the subtree to the left.
+	 * 
+	 * @param node the root of the subtree
+	 * @return the new root of the subtree
+	 */
+	private static <InputType> Node<InputType> rotateLeft(Node<InputType> node) {
+		Node<InputType> right = node._right;
+		node._right = right._left;
+		right._left = node;
+		node.update();
+		right.update();
+		return right;
+	}
+
+	/**
+	 * Rotate the subtree to the right.
+	 * 
+	 * @param node the root of the subtree
+	 * @return the new root of the subtree
+	 */
+	private static <InputType> Node<InputType> rotateRight(Node<InputType> node) {
+		Node<InputType> left = node._left;
+		node._left = left._right;
+		left._right = node;
+		node.update();
+		left.update();
+		return left;
+	}
+
+	/**
+	 * Get the height of the given subtree.
+	 * 
+	 * @param node the root of the subtree
+	 * @return the height, or 0 if the subtree is empty
+	 */
+	private static int height(Node<?> node) {
+		return node != null? node._height : 0;
+	}
+
+	/**
+	 * Get the number of the nodes in the given subtree.
+	 * 
+	 * @param node the root of the subtree
+	 * @return the number of the nodes, or 0 if the subtree is empty
+	 */
+	private static int size(Node<?> node) {
+		return node != null? node._size : 0;
+	}
+
+	/**
+	 * This class is a node of the tree that holds an element and its sort keys.
+	 */
+	private static class Node<InputType> {
+
+		private InputType _item;
+		private Comparable<?>[] _keys;
+		private long _sequence;
+		private Node<InputType> _left;
+		private Node<InputType> _right;
+		private int _height;
+		private int _size;
+
+		/**
+		 * Construct a <code>Node</code> instance.
+		 * 
+		 * @param item the element
+		 * @param keys the sort keys of the element
+		 * @param sequence the sequence to order the equal elements
+		 */
+		private Node(InputType item, Comparable<?>[] keys, long sequence) {
+			_item = item;
+			_keys = keys;
+			_sequence = sequence;
+			_height = 1;
+			_size = 1;
+		}
+
+		/**
+		 * Replace the sort keys and detach the node from the tree.
+		 * 
+		 * @param keys the new sort keys
+		 */
+		private void reset(Comparable<?>[] keys) {
+			_keys = keys;
+			_height = 1;
+			_size = 1;
+		}
+
+		/**
+		 * Update the height and the size by the subtrees.
+		 */
+		private void update() {
+			_height = Math.max(height(_left), height(_right)) + 1;
+			_size = size(_left) + size(_right) + 1;
+		}
+	}
+
+	/**
+	 * This class iterates the elements in order with a stack of the nodes whose
+	 * left subtrees are visited.
+	 */
+	private class TreeIterator implements Iterator<InputType> {
+
+		private Deque<Node<InputType>> _stack;
+		private Node<InputType> _last;
+		private int _index;
+		private int _expectedModCount;
+
+		/**
+		 * Construct a <code>TreeIterator</code> instance.
+		 */
+		private TreeIterator() {
+			_stack = new ArrayDeque<Node<InputType>>();
+			_expectedModCount = modCount;
+			seek(0);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !_stack.isEmpty();
+		}
+
+		@Override
+		public InputType next() {
+			if (modCount != _expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (_stack.isEmpty()) {
+				throw new NoSuchElementException();
+			}
+			_last = _stack.pop();
+			for (Node<InputType> node = _last._right; node != null; node = node._left) {
+				_stack.push(node);
+			}
+			_index++;
+			return _last._item;
+		}
+
+		@Override
+		public void remove() {
+			if (_last == null) {
+				throw new IllegalStateException();
+			}
+			if (modCount != _expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			SortedList.this.remove(_last._item);
+			_last = null;
+			_expectedModCount = modCount;
+			seek(--_index);
+		}
+
+		/**
+		 * Rebuild the stack to start the iteration at the given position.
+		 * 
+		 * @param index the position to start
+		 */
+		private void seek(int index) {
+			_stack.clear();
+			Node<InputType> node = _root;
+			while (node != null) {
+				int leftSize = size(node._left);
+				if (index <= leftSize) {
+					_stack.push(node);
+					node = node._left;
+				}
+				else {
+					index -= leftSize + 1;
+					node = node._right;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,250 @@
+/* SortingCollector.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * This class is a {@link Collector} that sorts the elements of a stream with a
+ * compiled descriptor chain while collecting them into a list. Each chunk of a
+ * parallel stream is sorted by its own thread with the precomputed keys, and the
+ * combiner merges two sorted chunks in linear time on the keys kept from sorting
+ * the chunks, instead of sorting everything again in the finisher. Each element
+ * is therefore transformed once per descriptor. The combiner takes the element
+ * of the left chunk first when the elements are equal, so the collection is
+ * stable in the encounter order.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ * @param <InputType> the type of the elements to be sorted
+ */
+final class SortingCollector<InputType> implements Collector<InputType, SortingCollector.Chunk<InputType>, List<InputType>> {
+
+	private final CompiledSortDescriptors<InputType> _descriptors;
+
+	/**
+	 * Construct a <code>SortingCollector</code> instance with the compiled sort
+	 * descriptors.
+	 * 
+	 * @param descriptors the compiled sort descriptors
+	 */
+	SortingCollector(CompiledSortDescriptors<InputType> descriptors) {
+		_descriptors = descriptors;
+	}
+
+	@Override
+	public Supplier<Chunk<InputType>> supplier() {
+		return new Supplier<Chunk<InputType>>() {
+
+			@Override
+			public Chunk<InputType> get() {
+				return new Chunk<InputType>();
+			}
+		};
+	}
+
+	@Override
+	public BiConsumer<Chunk<InputType>, InputType> accumulator() {
+		return new BiConsumer<Chunk<InputType>, InputType>() {
+
+			@Override
+			public void accept(Chunk<InputType> chunk, InputType item) {
+				chunk._items.add(item);
+				chunk._sorted = false;
+			}
+		};
+	}
+
+	@Override
+	public BinaryOperator<Chunk<InputType>> combiner() {
+		return new BinaryOperator<Chunk<InputType>>() {
+
+			@Override
+			public Chunk<InputType> apply(Chunk<InputType> left, Chunk<InputType> right) {
+				return merge(left, right);
+			}
+		};
+	}
+
+	@Override
+	public Function<Chunk<InputType>, List<InputType>> finisher() {
+		return new Function<Chunk<InputType>, List<InputType>>() {
+
+			@Override
+			public List<InputType> apply(Chunk<InputType> chunk) {
+				sort(chunk);
+				return chunk._items;
+			}
+		};
+	}
+
+	@Override
+	public Set<Characteristics> characteristics() {
+		return Collections.emptySet();
+	}
+
+	/**
+	 * Sort the elements of the given chunk if they are not sorted yet. The sort is
+	 * reported to the listener of the chain.
+	 * 
+	 * @param chunk the chunk to sort
+	 */
+	private void sort(final Chunk<InputType> chunk) {
+		if (chunk._sorted) {
+			return;
+		}
+		SortListener listener = _descriptors.getSortListener();
+		if (listener == null) {
+			chunk.sort(_descriptors);
+			return;
+		}
+		InstrumentedSort.run(_descriptors, chunk._items.size(), listener, new InstrumentedSort.Engine<InputType, Void>() {
+
+			@Override
+			public Void run(CompiledSortDescriptors<InputType> descriptors) {
+				chunk.sort(descriptors);
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Merge two chunks into one sorted chunk. The elements of the left chunk come
+	 * before the ones of the right chunk in the encounter order.
+	 * 
+	 * @param left the left chunk
+	 * @param right the right chunk
+	 * @return the merged chunk
+	 */
+	private Chunk<InputType> merge(Chunk<InputType> left, Chunk<InputType> right) {
+		sort(left);
+		sort(right);
+		if (right._items.isEmpty()) {
+			return left;
+		}
+		if (left._items.isEmpty()) {
+			return right;
+		}
+
+		Chunk<InputType> merged = new Chunk<InputType>(left._items.size() + right._items.size());
+		int leftIndex = 0;
+		int rightIndex = 0;
+		while (leftIndex < left._items.size() && rightIndex < right._items.size()) {
+			if (right.compare(rightIndex, left, leftIndex) < 0) {
+				merged.add(right, rightIndex++);
+			}
+			else {
+				merged.add(left, leftIndex++);
+			}
+		}
+		while (leftIndex < left._items.size()) {
+			merged.add(left, leftIndex++);
+		}
+		while (rightIndex < right._items.size()) {
+			merged.add(right, rightIndex++);
+		}
+		return merged;
+	}
+
+	/**
+	 * This class holds the elements collected by a thread and whether they are sorted.
+	 * Once sorted, the chunk also holds the key table and the row in the table of
+	 * each element, so the chunks can be merged without transforming the elements
+	 * again. The elements of a merged chunk reference the tables of both chunks.
+	 */
+	static final class Chunk<InputType> {
+
+		private ArrayList<InputType> _items;
+		private SortKeyTable[] _tables;
+		private int[] _rows;
+		private boolean _sorted;
+
+		Chunk() {
+			_items = new ArrayList<InputType>();
+			_tables = new SortKeyTable[0];
+			_rows = new int[0];
+			_sorted = true;
+		}
+
+		Chunk(int capacity) {
+			_items = new ArrayList<InputType>(capacity);
+			_tables = new SortKeyTable[capacity];
+			_rows = new int[capacity];
+			_sorted = true;
+		}
+
+		/**
+		 * Sort the elements by the keys extracted with the given descriptors, and
+		 * keep the keys for merging.
+		 * 
+		 * @param descriptors the compiled sort descriptors
+		 */
+		private void sort(CompiledSortDescriptors<InputType> descriptors) {
+			Object[] snapshot = _items.toArray();
+			SortKeyTable table = SortKeyTable.build(snapshot, descriptors);
+			_rows = table.sortedIndexes();
+			_tables = new SortKeyTable[snapshot.length];
+			Arrays.fill(_tables, table);
+			SortUtils.reorder(_items, snapshot, _rows);
+			_sorted = true;
+		}
+
+		/**
+		 * Compare an element of this chunk with an element of another chunk by
+		 * their kept keys.
+		 * 
+		 * @param index the position of the element in this chunk
+		 * @param other the other chunk
+		 * @param otherIndex the position of the element in the other chunk
+		 * @return a negative integer, zero, or a positive integer as the first element
+		 *         is before, equal to, or after the second element in the sorted ordering
+		 */
+		private int compare(int index, Chunk<InputType> other, int otherIndex) {
+			return _tables[index].compare(_rows[index], other._tables[otherIndex], other._rows[otherIndex]);
+		}
+
+		/**
+		 * Append an element of the given chunk with its keys.
+		 * 
+		 * @param source the chunk of the element
+		 * @param index the position of the element in the chunk
+		 */
+		private void add(Chunk<InputType> source, int index) {
+			_tables[_items.size()] = source._tables[index];
+			_rows[_items.size()] = source._rows[index];
+			_items.add(source._items.get(index));
+		}
+	}
+}
@@ -0,0 +1,198 @@
+/* TopSelection.java created on Oct 17, 2026
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * This class selects the first (top) or the last (bottom) elements of the
+ * ordering of a descriptor chain with a bounded binary heap, so it takes
+ * O(n log k) time and O(k) memory without sorting or storing all the elements.
+ * The root of the heap is the candidate that would be dropped first. The sort
+ * keys of an element are extracted lazily, i.e., an element that is already
+ * worse than the root by the first descriptor never runs the others. The equal
+ * elements are ordered by their positions in the input, so the selected elements
+ * are identical to the ones at the same positions of the sorted list.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ * @param <InputType> the type of the elements to be selected
+ */
+final class TopSelection<InputType> {
+
+	private CompiledSortDescriptors<InputType> _descriptors;
+	private KeyedElement<InputType>[] _heap;
+	private KeyedElement<InputType> _spare;
+	private int _size;
+	private int _sign;
+	private long _sequence;
+
+	/**
+	 * Select the first or the last elements from the given items.
+	 * 
+	 * @param descriptors the compiled sort descriptors
+	 * @param limit the maximum number of the elements to select
+	 * @param items the items to select
+	 * @param top {@code true} to select the first elements; {@code false} for the last ones
+	 * @param <InputType> the type of the elements to be selected
+	 * @return the selected elements in the sorted ordering
+	 */
+	static <InputType> List<InputType> select(CompiledSortDescriptors<InputType> descriptors, int limit, Iterator<InputType> items, boolean top) {
+		if (limit == 0) {
+			return new ArrayList<InputType>();
+		}
+		TopSelection<InputType> selection = new TopSelection<InputType>(descriptors, limit, top);
+		while (items.hasNext()) {
+			selection.offer(items.next());
+		}
+		return selection.result();
+	}
+
+	/**
+	 * Construct a <code>TopSelection</code> instance.
+	 * 
+	 * @param descriptors the compiled sort descriptors
+	 * @param limit the maximum number of the elements to select
+	 * @param top {@code true} to select the first elements; {@code false} for the last ones
+	 */
+	@SuppressWarnings("unchecked")
+	private TopSelection(CompiledSortDescriptors<InputType> descriptors, int limit, boolean top) {
+		_descriptors = descriptors;
+		_heap = (KeyedElement<InputType>[]) new KeyedElement<?>[limit];
+		_sign = top? 1 : -1;
+	}
+
+	/**
+	 * Offer an element to the selection.
+	 * 
+	 * @param item the element
+	 */
+	private void offer(InputType item) {
+		KeyedElement<InputType> candidate = _spare != null? _spare : new KeyedElement<InputType>(_descriptors.size());
+		candidate.reset(item, _sequence++);
+		if (_size < _heap.length) {
+			_spare = null;
+			_heap[_size] = candidate;
+			siftUp(_size++);
+		}
+		else if (isWorse(_heap[0], candidate)) {
+			_spare = _heap[0];
+			_heap[0] = candidate;
+			siftDown(0);
+		}
+		else {
+			_spare = candidate;
+		}
+	}
+
+	/**
+	 * Get the selected elements in the sorted ordering.
+	 * 
+	 * @return the selected elements
+	 */
+	private List<InputType> result() {
+		KeyedElement<InputType>[] candidates = Arrays.copyOf(_heap, _size);
+		Arrays.sort(candidates, new Comparator<KeyedElement<InputType>>() {
+
+			@Override
+			public int compare(KeyedElement<InputType> candidate1, KeyedElement<InputType> candidate2) {
+				return order(candidate1, candidate2);
+			}
+		});
+		List<InputType> result = new ArrayList<InputType>(candidates.length);
+		for (KeyedElement<InputType> candidate : candidates) {
+			result.add(candidate.getItem());
+		}
+		return result;
+	}
+
+	/**
+	 * Compare the given two candidates in the sorted ordering; the equal elements
+	 * are ordered by their positions in the input.
+	 * 
+	 * @param candidate1 the first candidate
+	 * @param candidate2 the second candidate
+	 * @return the compare result
+	 */
+	private int order(KeyedElement<InputType> candidate1, KeyedElement<InputType> candidate2) {
+		return KeyedElement.compare(candidate1, candidate2, _descriptors);
+	}
+
+	/**
+	 * Check whether the first candidate would be dropped before the second one.
+	 * 
+	 * @param candidate1 the first candidate
+	 * @param candidate2 the second candidate
+	 * @return {@code true} if the first candidate is worse
+	 */
+	private boolean isWorse(KeyedElement<InputType> candidate1, KeyedElement<InputType> candidate2) {
+		return order(candidate1, candidate2) * _sign > 0;
+	}
+
+	/**
+	 * Move the candidate at the given position up until its parent is worse.
+	 * 
+	 * @param position the position of the candidate
+	 */
+	private void siftUp(int position) {
+		KeyedElement<InputType> candidate = _heap[position];
+		while (position > 0) {
+			int parent = (position - 1) >>> 1;
+			if (!isWorse(candidate, _heap[parent])) {
+				break;
+			}
+			_heap[position] = _heap[parent];
+			position = parent;
+		}
+		_heap[position] = candidate;
+	}
+
+	/**
+	 * Move the candidate at the given position down until its children are better.
+	 * 
+	 * @param position the position of the candidate
+	 */
+	private void siftDown(int position) {
+		KeyedElement<InputType> candidate = _heap[position];
+		int half = _size >>> 1;
+		while (position < half) {
+			int child = (position << 1) + 1;
+			if (child + 1 < _size && isWorse(_heap[child + 1], _heap[child])) {
+				child++;
+			}
+			if (!isWorse(_heap[child], candidate)) {
+				break;
+			}
+			_heap[position] = _heap[child];
+			position = child;
+		}
+		_heap[position] = candidate;
+	}
+}
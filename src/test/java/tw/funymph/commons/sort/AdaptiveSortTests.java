@@ -0,0 +1,122 @@
+/* AdaptiveSortTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link AdaptiveSort}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class AdaptiveSortTests {
+
+	@Test
+	public void testSortedInput() {
+		AtomicInteger evaluations = new AtomicInteger();
+		SortDescriptors<Person> descriptors = SortDescriptors.startWith((Person p) -> {
+			evaluations.incrementAndGet();
+			return p.getFirstName();
+		});
+		List<Person> sorted = SortExample.sortedCopy(SortExample.createPersons(1000), Comparator.comparing(Person::getFirstName));
+		List<Person> result = new ArrayList<Person>(sorted);
+		evaluations.set(0);
+		descriptors.adaptiveSort(result);
+		assertEquals(sorted, result);
+		assertEquals(2 * 999, evaluations.get());
+	}
+
+	@Test
+	public void testReverseSortedInput() {
+		SortDescriptors<Person> descriptors = SortDescriptors.<Person>startWith("firstName").thenWith("age").thenWith("gender");
+		Comparator<Person> comparator = Comparator.comparing(Person::getFirstName).thenComparingInt(Person::getAge).thenComparing(Person::getGender);
+		List<Person> expected = SortExample.sortedCopy(SortExample.createPersons(1000), comparator);
+
+		// The reversed list has the equal persons, so it must be sorted stably
+		List<Person> reversed = new ArrayList<Person>(expected);
+		Collections.reverse(reversed);
+		assertEquals(SortExample.sortedCopy(reversed, comparator), descriptors.adaptiveSortedList(reversed));
+
+		List<Person> distinct = new ArrayList<Person>();
+		for (int index = 0; index < expected.size(); index++) {
+			if (index == 0 || comparator.compare(expected.get(index - 1), expected.get(index)) != 0) {
+				distinct.add(expected.get(index));
+			}
+		}
+		List<Person> result = new ArrayList<Person>(distinct);
+		Collections.reverse(result);
+		descriptors.compile().adaptiveSort(result);
+		assertEquals(distinct, result);
+	}
+
+	@Test
+	public void testSortedPrefixWithTail() {
+		SortDescriptors<Person> descriptors = SortDescriptors.startWith(new AdultChecker()).thenWith("age", false);
+		Comparator<Person> comparator = Comparator.comparing((Person p) -> p.getAge() >= AdultChecker.DEFAULT_ADULT_AGE).thenComparing(Comparator.comparingInt(Person::getAge).reversed());
+		List<Person> persons = SortExample.sortedCopy(SortExample.createPersons(1000), comparator);
+		persons.addAll(SortExample.createPersons(100));
+		List<Person> expected = SortExample.sortedCopy(persons, comparator);
+		assertEquals(expected, descriptors.adaptiveSortedList(persons));
+		assertEquals(expected, SortUtils.adaptiveSortedList(persons, descriptors.getDescriptors()));
+
+		List<Person> result = new ArrayList<Person>(persons);
+		SortUtils.adaptiveSort(result, descriptors.getDescriptors());
+		assertEquals(expected, result);
+	}
+
+	@Test
+	public void testUnsortedInput() {
+		SortDescriptors<Person> descriptors = SortDescriptors.<Person>startWith("gender").thenWith("firstName", false);
+		Comparator<Person> comparator = Comparator.comparing(Person::getGender).thenComparing(Person::getFirstName, Comparator.reverseOrder());
+
+		// The sorted prefix is too short to be kept
+		List<Person> persons = SortExample.sortedCopy(SortExample.createPersons(100), comparator);
+		persons.addAll(SortExample.createPersons(50));
+		assertEquals(SortExample.sortedCopy(persons, comparator), descriptors.adaptiveSortedList(persons));
+	}
+
+	@Test
+	public void testAdaptiveSortWithNullItems() {
+		boolean exceptionThrown = false;
+		try {
+			SortUtils.adaptiveSort(null, new ArrayList<SortDescriptor<Person>>());
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+	}
+}
@@ -0,0 +1,97 @@
+/* CollationSortDescriptorTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.*;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.Test;
+
+import tw.funymph.commons.sort.CollationSortDescriptor.Option;
+
+/**
+ * This class tests the functionalities of {@link CollationSortDescriptor}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class CollationSortDescriptorTests {
+
+	@Test
+	public void testCollation() {
+		List<String> words = asList("peach", "p\u00E9ch\u00E9", "p\u00EAche", "P\u00E9ch\u00E9", "apple", "Zebra", "zebra", "\u00C5ngstr\u00F6m", "angle");
+		List<String> expected = new ArrayList<String>(words);
+		final Collator collator = Collator.getInstance(Locale.FRANCE);
+		Collections.sort(expected, (String word1, String word2) -> collator.compare(word1, word2));
+		assertEquals(expected, SortDescriptors.startWith(new CollationSortDescriptor<String>((String word) -> word, Locale.FRANCE)).sortedList(words));
+
+		Collections.reverse(expected);
+		assertEquals(expected, SortDescriptors.startWith(new CollationSortDescriptor<String>((String word) -> word, Locale.FRANCE, false)).sortedList(words));
+	}
+
+	@Test
+	public void testCaseInsensitive() {
+		List<String> words = asList("b", "A", null, "a", "B", "\u00E1");
+		assertEquals(asList(null, "A", "a", "\u00E1", "b", "B"), SortDescriptors.startWith(new CollationSortDescriptor<String>((String word) -> word, Locale.US, Option.CASE_INSENSITIVE)).sortedList(words));
+	}
+
+	@Test
+	public void testNaturalNumbers() {
+		List<String> files = asList("file10", "file9", "File2", "file1", "file10a", "file", "file010", "2 files", "file\u0669");
+		List<String> expected = asList("2 files", "file", "file1", "File2", "file9", "file\u0669", "file10", "file010", "file10a");
+		assertEquals(expected, SortDescriptors.startWith(new CollationSortDescriptor<String>((String file) -> file, Locale.US, Option.NATURAL_NUMBERS, Option.CASE_INSENSITIVE)).sortedList(files));
+	}
+
+	@Test
+	public void testChain() {
+		List<Person> persons = SortExample.createPersons(300);
+		List<Person> expected = SortDescriptors.<Person>startWith("gender").thenWith((Person p) -> Integer.parseInt(p.getFirstName().substring(6))).sortedList(persons);
+		List<Person> sorted = SortDescriptors
+			.<Person>startWith("gender")
+			.thenWith(new CollationSortDescriptor<Person>(Person::getFirstName, Locale.US, Option.NATURAL_NUMBERS))
+			.sortedList(persons);
+		assertEquals(expected, sorted);
+	}
+
+	@Test
+	public void testCreateWithoutLocale() {
+		boolean exceptionThrown = false;
+		try {
+			new CollationSortDescriptor<String>((String word) -> word, null);
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+	}
+}
@@ -0,0 +1,126 @@
+/* ColumnarSortTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link ColumnarSort}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class ColumnarSortTests {
+
+	@Test
+	public void testSortColumns() {
+		List<Person> persons = SortExample.createPersons(2000);
+		int[] ages = new int[persons.size()];
+		String[] names = new String[persons.size()];
+		byte[] genders = new byte[persons.size()];
+		double[] scores = new double[persons.size()];
+		for (int index = 0; index < persons.size(); index++) {
+			ages[index] = persons.get(index).getAge();
+			names[index] = index % 11 == 0? null : persons.get(index).getFirstName().substring(0, 7);
+			genders[index] = (byte) persons.get(index).getGender().ordinal();
+			scores[index] = index;
+		}
+
+		SortDescriptors<Integer> rows = SortDescriptors
+			.<Integer>startWithInt((Integer row) -> genders[row])
+			.thenWithInt((Integer row) -> ages[row], false)
+			.thenWith((Integer row) -> names[row]);
+		List<Integer> expected = rows.sortedList(rowsOf(persons.size()));
+
+		int[] permutation = ColumnarSort.sort(
+			ColumnSortDescriptor.of(genders),
+			ColumnSortDescriptor.of(ages, false),
+			ColumnSortDescriptor.of(names));
+		Permutations.apply(permutation, scores);
+		for (int index = 0; index < expected.size(); index++) {
+			int row = expected.get(index);
+			assertEquals(row, permutation[index]);
+			assertEquals(row, scores[index], 0);
+			assertEquals(persons.get(row).getAge(), ages[index]);
+			assertEquals(persons.get(row).getGender().ordinal(), genders[index]);
+		}
+	}
+
+	@Test
+	public void testArgsort() {
+		long[] times = { 5, 3, 5, 1, 3 };
+		double[] prices = { 1.5, 2.0, 1.5, 0.5, 1.0 };
+		int[] permutation = ColumnarSort.argsort(ColumnSortDescriptor.of(times, false), ColumnSortDescriptor.of(prices));
+		assertArrayEquals(new int[] { 0, 2, 4, 1, 3 }, permutation);
+		assertArrayEquals(new long[] { 5, 3, 5, 1, 3 }, times);
+
+		int[] keys = { 2, Integer.MIN_VALUE, -1, Integer.MAX_VALUE, 0 };
+		assertArrayEquals(new int[] { 3, 0, 4, 2, 1 }, ColumnarSort.argsort(ColumnSortDescriptor.of(keys, false)));
+		assertArrayEquals(new int[] { 1, 2, 4, 0, 3 }, ColumnarSort.argsort(ColumnSortDescriptor.of(keys)));
+	}
+
+	@Test
+	public void testNarrowColumns() {
+		assertTrue(ColumnSortDescriptor.of(new int[1]) instanceof NarrowColumnSortDescriptor);
+		assertTrue(ColumnSortDescriptor.of(new byte[1], false) instanceof NarrowColumnSortDescriptor);
+		assertFalse(ColumnSortDescriptor.of(new long[1]) instanceof NarrowColumnSortDescriptor);
+		assertFalse(ColumnSortDescriptor.of(new double[1]) instanceof NarrowColumnSortDescriptor);
+		assertFalse(ColumnSortDescriptor.of(new String[1]) instanceof NarrowColumnSortDescriptor);
+	}
+
+	@Test
+	public void testSortSameColumnTwice() {
+		int[] keys = { 3, 1, 2 };
+		ColumnarSort.sort(ColumnSortDescriptor.of(keys), ColumnSortDescriptor.of(keys, false));
+		assertArrayEquals(new int[] { 1, 2, 3 }, keys);
+	}
+
+	@Test
+	public void testColumnsOfDifferentLengths() {
+		boolean exceptionThrown = false;
+		try {
+			ColumnarSort.argsort(ColumnSortDescriptor.of(new int[2]), ColumnSortDescriptor.of(new long[3]));
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+	}
+
+	private List<Integer> rowsOf(int count) {
+		List<Integer> rows = new ArrayList<Integer>();
+		for (int row = 0; row < count; row++) {
+			rows.add(row);
+		}
+		return rows;
+	}
+}
@@ -0,0 +1,103 @@
+/* CompiledSortDescriptorsTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import tw.funymph.commons.sort.Person.Gender;
+
+/**
+ * This class tests the functionalities of {@link CompiledSortDescriptors}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class CompiledSortDescriptorsTests {
+
+	@Test
+	public void testCompare() {
+		CompiledSortDescriptors<Person> testee = SortDescriptors
+			.startWith(new AdultChecker())
+			.thenWith("gender", false)
+			.thenWith("firstName")
+			.compile();
+
+		Person jessica = new Person("Jessica", "Lee", Gender.Female, SortExample.getBirthday(13, 11, 23));
+		Person joe = new Person("Joe", "Lai", Gender.Male, SortExample.getBirthday(13, 1, 3));
+		Person cathy = new Person("Cathy", "Feng", Gender.Female, SortExample.getBirthday(21, 5, 9));
+		Person bill = new Person("Bill", "Lin", Gender.Male, SortExample.getBirthday(26, 3, 22));
+
+		assertEquals(3, testee.size());
+		assertTrue(testee.compare(jessica, joe) < 0);
+		assertTrue(testee.compare(joe, cathy) < 0);
+		assertTrue(testee.compare(bill, cathy) > 0);
+		assertEquals(0, testee.compare(bill, bill));
+	}
+
+	@Test
+	public void testCompiledIsImmutable() {
+		PropertySortDescriptor<Person> lastName = new PropertySortDescriptor<Person>("lastName");
+		SortDescriptors<Person> builder = SortDescriptors.startWith(lastName);
+		CompiledSortDescriptors<Person> testee = builder.compile();
+
+		builder.thenWith("firstName", false);
+		lastName.setAscending(false);
+		assertEquals(1, testee.size());
+
+		Person joe = new Person("Joe", "Lee", Gender.Male, SortExample.getBirthday(13, 1, 3));
+		Person jessica = new Person("Jessica", "Lee", Gender.Female, SortExample.getBirthday(13, 11, 23));
+		Person mike = new Person("Mike", "Cheng", Gender.Male, SortExample.getBirthday(18, 9, 3));
+		List<Person> persons = new ArrayList<Person>();
+		Collections.addAll(persons, joe, jessica, mike);
+
+		List<Person> result = testee.sortedList(persons);
+		assertSame(mike, result.get(0));
+		assertSame(joe, result.get(1));
+		assertSame(jessica, result.get(2));
+
+		Collections.sort(persons, testee);
+		assertEquals(result, persons);
+	}
+
+	@Test
+	public void testSortWithoutItems() {
+		boolean exceptionThrown = false;
+		try {
+			SortDescriptors.<Person>startWith("lastName").compile().sort(null);
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+	}
+}
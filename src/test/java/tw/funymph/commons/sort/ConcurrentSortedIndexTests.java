@@ -0,0 +1,156 @@
+/* ConcurrentSortedIndexTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link ConcurrentSortedIndex}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class ConcurrentSortedIndexTests {
+
+	@Test
+	public void testConcurrentAddAndRemove() throws InterruptedException {
+		final List<Person> persons = SortExample.createPersons(8000);
+		final CompiledSortDescriptors<Person> descriptors = SortDescriptors
+			.<Person>startWith("gender")
+			.thenWith(Person::getAge, false)
+			.thenWith("firstName")
+			.compile();
+		final ConcurrentSortedIndex<Person> index = new ConcurrentSortedIndex<Person>(descriptors);
+		final AtomicInteger failures = new AtomicInteger();
+		final int threadCount = 4;
+		Thread[] threads = new Thread[threadCount];
+		for (int thread = 0; thread < threadCount; thread++) {
+			final int offset = thread;
+			threads[thread] = new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+					for (int position = offset; position < persons.size(); position += threadCount) {
+						index.add(persons.get(position));
+						if (position % 3 == 0 && !index.remove(persons.get(position))) {
+							failures.incrementAndGet();
+						}
+					}
+				}
+			});
+			threads[thread].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(0, failures.get());
+
+		List<Person> expected = new ArrayList<Person>();
+		for (int position = 0; position < persons.size(); position++) {
+			if (position % 3 != 0) {
+				expected.add(persons.get(position));
+			}
+		}
+		expected = SortExample.sortedCopy(expected, Comparator.comparing(Person::getGender).thenComparing(Comparator.comparingInt(Person::getAge).reversed()).thenComparing(Person::getFirstName));
+		List<Person> actual = collect(index.iterator());
+		assertEquals(expected.size(), actual.size());
+		Map<Person, Boolean> remaining = new IdentityHashMap<Person, Boolean>();
+		for (int position = 0; position < actual.size(); position++) {
+			assertEquals(0, descriptors.compare(expected.get(position), actual.get(position)));
+			remaining.put(actual.get(position), true);
+		}
+		assertEquals(expected.size(), remaining.size());
+		assertSame(actual.get(0), index.first());
+		assertSame(actual.get(actual.size() - 1), index.last());
+	}
+
+	@Test
+	public void testRange() {
+		SortDescriptors<int[]> descriptors = SortDescriptors.startWithInt((int[] element) -> element[0]);
+		ConcurrentSortedIndex<int[]> index = new ConcurrentSortedIndex<int[]>(descriptors.compile());
+		assertNull(index.first());
+		assertNull(index.last());
+		List<int[]> elements = new ArrayList<int[]>();
+		for (int count = 0; count < 300; count++) {
+			int[] element = new int[] { (count * 7) % 40 };
+			elements.add(element);
+			index.add(element);
+		}
+		List<int[]> sorted = SortExample.sortedCopy(elements, Comparator.comparingInt((int[] element) -> element[0]));
+		assertEquals(sorted, collect(index.iterator()));
+
+		List<int[]> expected = new ArrayList<int[]>();
+		for (int[] element : sorted) {
+			if (element[0] >= 10 && element[0] < 20) {
+				expected.add(element);
+			}
+		}
+		assertEquals(expected, collect(index.range(new int[] { 10 }, true, new int[] { 20 }, false)));
+		expected.clear();
+		for (int[] element : sorted) {
+			if (element[0] > 10 && element[0] <= 20) {
+				expected.add(element);
+			}
+		}
+		assertEquals(expected, collect(index.range(new int[] { 10 }, false, new int[] { 20 }, true)));
+		expected.clear();
+		for (int[] element : sorted) {
+			if (element[0] >= 20) {
+				expected.add(element);
+			}
+		}
+		assertEquals(expected, collect(index.range(new int[] { 20 }, true, null, true)));
+		assertFalse(index.range(new int[] { 20 }, true, new int[] { 10 }, true).hasNext());
+		assertTrue(index.remove(sorted.get(0)));
+		assertFalse(index.remove(new int[] { 0 }));
+		assertSame(sorted.get(1), index.first());
+	}
+
+	/**
+	 * Collect the remaining elements of the given iterator.
+	 * 
+	 * @param iterator the iterator
+	 * @param <ElementType> the type of the elements
+	 * @return the elements
+	 */
+	private static <ElementType> List<ElementType> collect(Iterator<ElementType> iterator) {
+		List<ElementType> elements = new ArrayList<ElementType>();
+		while (iterator.hasNext()) {
+			elements.add(iterator.next());
+		}
+		return elements;
+	}
+}
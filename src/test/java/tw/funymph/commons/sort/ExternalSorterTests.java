@@ -0,0 +1,178 @@
+/* ExternalSorterTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * This class tests the functionalities of {@link ExternalSorter}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class ExternalSorterTests {
+
+	@Rule
+	public TemporaryFolder _folder = new TemporaryFolder();
+
+	@Test
+	public void testSort() throws IOException {
+		List<Person> persons = SortExample.createPersons(1000);
+		SortDescriptors<Person> descriptors = SortDescriptors
+			.startWith(new AdultChecker(), false)
+			.thenWith("gender")
+			.thenWith((Person p) -> p.getFirstName().substring(0, 7));
+		List<Person> expected = SortExample.sortedCopy(persons, Comparator
+			.comparing((Person p) -> p.getAge() >= AdultChecker.DEFAULT_ADULT_AGE, Comparator.reverseOrder())
+			.thenComparing(Person::getGender)
+			.thenComparing((Person p) -> p.getFirstName().substring(0, 7)));
+
+		// The codec writes the positions of the persons, so the result also verifies the stability
+		File directory = _folder.newFolder("runs");
+		ExternalSorter<Person> sorter = new ExternalSorter<Person>(descriptors.compile(), createCodec(persons), 37);
+		sorter.setMergeWidth(3);
+		sorter.setTemporaryDirectory(directory);
+		assertEquals(expected, collect(sorter.sort(persons.iterator())));
+		assertEquals(0, directory.list().length);
+
+		assertEquals(expected, collect(descriptors.externalSort(persons.iterator(), createCodec(persons), 2000)));
+		assertEquals(expected, collect(descriptors.externalSort(persons.iterator(), createCodec(persons), 1)));
+		assertFalse(descriptors.externalSort(new ArrayList<Person>().iterator(), createCodec(persons), 10).hasNext());
+	}
+
+	@Test
+	public void testClose() throws IOException {
+		List<Person> persons = SortExample.createPersons(100);
+		File directory = _folder.newFolder("runs");
+		ExternalSorter<Person> sorter = new ExternalSorter<Person>(SortDescriptors.<Person>startWith("firstName").compile(), createCodec(persons), 10);
+		sorter.setTemporaryDirectory(directory);
+		CloseableIterator<Person> iterator = sorter.sort(persons.iterator());
+		assertEquals(9, directory.list().length);
+		iterator.next();
+		iterator.close();
+		assertFalse(iterator.hasNext());
+		assertEquals(0, directory.list().length);
+	}
+
+	@Test
+	public void testReadFailure() throws IOException {
+		List<Person> persons = SortExample.createPersons(100);
+		final ElementCodec<Person> codec = createCodec(persons);
+		File directory = _folder.newFolder("runs");
+		ExternalSorter<Person> sorter = new ExternalSorter<Person>(SortDescriptors.<Person>startWith("firstName").compile(), new ElementCodec<Person>() {
+
+			@Override
+			public void encode(Person element, DataOutput output) throws IOException {
+				codec.encode(element, output);
+			}
+
+			@Override
+			public Person decode(DataInput input) throws IOException {
+				throw new IOException();
+			}
+		}, 10);
+		sorter.setTemporaryDirectory(directory);
+		CloseableIterator<Person> iterator = sorter.sort(persons.iterator());
+		boolean exceptionThrown = false;
+		try {
+			iterator.next();
+			fail("unchecked IO exception should thrown");
+		}
+		catch (UncheckedIOException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+		assertFalse(iterator.hasNext());
+		assertEquals(0, directory.list().length);
+	}
+
+	@Test
+	public void testSortWithInvalidRunSize() {
+		boolean exceptionThrown = false;
+		try {
+			new ExternalSorter<Person>(SortDescriptors.<Person>startWith("firstName").compile(), createCodec(new ArrayList<Person>()), 0);
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+	}
+
+	/**
+	 * Create a codec that writes the positions of the persons in the given list.
+	 * 
+	 * @param persons the persons to encode
+	 * @return the codec
+	 */
+	private static ElementCodec<Person> createCodec(final List<Person> persons) {
+		final Map<Person, Integer> positions = new IdentityHashMap<Person, Integer>();
+		for (int index = 0; index < persons.size(); index++) {
+			positions.put(persons.get(index), index);
+		}
+		return new ElementCodec<Person>() {
+
+			@Override
+			public void encode(Person element, DataOutput output) throws IOException {
+				output.writeInt(positions.get(element));
+			}
+
+			@Override
+			public Person decode(DataInput input) throws IOException {
+				return persons.get(input.readInt());
+			}
+		};
+	}
+
+	/**
+	 * Collect the remaining elements of the given iterator.
+	 * 
+	 * @param iterator the iterator
+	 * @return the elements
+	 */
+	private static List<Person> collect(CloseableIterator<Person> iterator) {
+		List<Person> elements = new ArrayList<Person>();
+		while (iterator.hasNext()) {
+			elements.add(iterator.next());
+		}
+		return elements;
+	}
+}
@@ -0,0 +1,165 @@
+/* FieldSortDescriptorTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import tw.funymph.commons.sort.Person.Gender;
+
+/**
+ * This class tests the functionalities of {@link FieldSortDescriptor}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class FieldSortDescriptorTests {
+
+	@Test
+	public void testPrivateFields() {
+		List<Person> persons = SortExample.createPersons(300);
+		List<Person> expected = SortDescriptors.<Person>startWith("gender", false).thenWith("firstName").sortedList(persons);
+		assertEquals(expected, SortDescriptors.<Person>startWithField("_gender", false).thenWithField("_firstName").sortedList(persons));
+		assertEquals(expected, SortDescriptors.startWithField(Person.class, "_gender", false).thenWithField(Person.class, "_firstName", true).sortedList(persons));
+
+		FieldSortDescriptor<Person> testee = new FieldSortDescriptor<Person>("_lastName");
+		Person person = new Person("Cathy", "Tu", Gender.Female, SortExample.getBirthday(30, 2, 2));
+		assertEquals("Tu", testee.transform(person));
+		assertNull(testee.transform(null));
+		assertNull(new FieldSortDescriptor<Person>("_nickname").transform(person));
+	}
+
+	@Test
+	public void testPrimitiveFields() {
+		assertTrue(FieldSortDescriptor.of(Sample.class, "_count", true) instanceof IntSortDescriptor);
+		assertTrue(FieldSortDescriptor.of(Sample.class, "_level", true) instanceof IntSortDescriptor);
+		assertTrue(FieldSortDescriptor.of(Sample.class, "_total", true) instanceof LongSortDescriptor);
+		assertTrue(FieldSortDescriptor.of(Sample.class, "_average", true) instanceof DoubleSortDescriptor);
+		assertTrue(FieldSortDescriptor.of(Sample.class, "_ratio", true) instanceof DoubleSortDescriptor);
+		assertTrue(FieldSortDescriptor.of(Sample.class, "_label", true) instanceof FieldSortDescriptor);
+
+		Random random = new Random(18);
+		List<Sample> samples = new ArrayList<Sample>();
+		for (int count = 0; count < 500; count++) {
+			samples.add(new Sample(random.nextInt(10) - 5, (short) random.nextInt(3), random.nextLong() % 7, random.nextGaussian(), random.nextFloat(), "S" + random.nextInt(20)));
+		}
+		List<Sample> expected = SortDescriptors
+			.startWith((Sample s) -> s._count)
+			.thenWith((Sample s) -> s.getLevel(), false)
+			.thenWith((Sample s) -> s._total)
+			.thenWith((Sample s) -> s._label, false)
+			.thenWith((Sample s) -> s._average)
+			.sortedList(samples);
+		List<Sample> sorted = SortDescriptors
+			.startWithField(Sample.class, "_count", true)
+			.thenWithField(Sample.class, "_level", false)
+			.thenWithField(Sample.class, "_total", true)
+			.thenWithField(Sample.class, "_label", false)
+			.thenWithField("_average")
+			.sortedList(samples);
+		assertEquals(expected, sorted);
+		assertEquals(expected, SortDescriptors.startWithField(Sample.class, "_count", true).thenWithField(Sample.class, "_level", false).thenWithField(Sample.class, "_total", true).thenWithField(Sample.class, "_label", false).thenWithField(Sample.class, "_average", true).radixSortedList(samples));
+	}
+
+	@Test
+	public void testNotComparableField() {
+		boolean exceptionThrown = false;
+		try {
+			FieldSortDescriptor.of(Sample.class, "_note", true);
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+
+		Sample sample = new Sample(1, (short) 1, 1, 1, 1, "S");
+		sample._note = new Object();
+		FieldSortDescriptor<Sample> testee = new FieldSortDescriptor<Sample>("_note");
+		assertNull(testee.transform(sample));
+		assertNull(testee.transform(sample));
+	}
+
+	@Test
+	public void testMissingField() {
+		boolean exceptionThrown = false;
+		try {
+			FieldSortDescriptor.of(Person.class, "_nickname", true);
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+	}
+
+	/**
+	 * This class has the fields of the primitive types in the superclass.
+	 */
+	private static class Measurement {
+
+		protected int _count;
+		protected short _level;
+		protected long _total;
+		protected double _average;
+
+		/**
+		 * Get the level of the measurement.
+		 * 
+		 * @return the level
+		 */
+		public short getLevel() {
+			return _level;
+		}
+	}
+
+	/**
+	 * This class has the fields of the other types.
+	 */
+	private static class Sample extends Measurement {
+
+		private float _ratio;
+		private String _label;
+		private Object _note;
+
+		/**
+		 * Construct a <code>Sample</code> instance.
+		 */
+		private Sample(int count, short level, long total, double average, float ratio, String label) {
+			_count = count;
+			_level = level;
+			_total = total;
+			_average = average;
+			_ratio = ratio;
+			_label = label;
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/* InstrumentedSortTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import tw.funymph.commons.sort.Person.Gender;
+
+/**
+ * This class tests the functionalities of {@link InstrumentedSort}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class InstrumentedSortTests {
+
+	@Test
+	public void testChainListener() {
+		List<Person> persons = SortExample.createPersons(500);
+		final List<SortStatistics> reported = new ArrayList<SortStatistics>();
+		SortDescriptors<Person> descriptors = SortDescriptors
+			.startWith((Person p) -> "Lee")
+			.thenWith("gender")
+			.thenWith(Person::getAge);
+		List<Person> expected = SortExample.sortedCopy(persons, Comparator.comparing(Person::getGender).thenComparingInt(Person::getAge));
+
+		descriptors.setSortListener((SortStatistics statistics) -> reported.add(statistics));
+		assertEquals(expected, descriptors.sortedList(persons));
+		assertEquals(1, reported.size());
+
+		SortStatistics statistics = reported.get(0);
+		assertEquals(3, statistics.getDescriptorCount());
+		assertEquals(500, statistics.getSize());
+		assertTrue(statistics.getComparisons() >= 499);
+		assertTrue(statistics.getElapsedNanos() >= statistics.getExtractionNanos());
+		for (int index = 0; index < 3; index++) {
+			assertSame(descriptors.getDescriptors().get(index), statistics.getDescriptor(index));
+			assertEquals(500, statistics.getTransforms(index));
+			assertTrue(statistics.getTies(index) <= statistics.getEvaluations(index));
+		}
+
+		// The last names are identical, so the first descriptor always ties
+		assertEquals(statistics.getComparisons(), statistics.getTies(0));
+		assertEquals(1.0, statistics.getTieRate(0), 0);
+		assertEquals(statistics.getTies(0), statistics.getEvaluations(1));
+		assertTrue(statistics.getTieRate(1) < 1.0);
+	}
+
+	@Test
+	public void testGlobalListener() {
+		final List<SortStatistics> reported = new ArrayList<SortStatistics>();
+		SortUtils.setSortListener((SortStatistics statistics) -> reported.add(statistics));
+		try {
+			List<Person> persons = SortExample.createPersons(100);
+			SortUtils.sort(persons, SortDescriptors.<Person>startWith("firstName").getDescriptors());
+			assertEquals(1, reported.size());
+			assertEquals(100, reported.get(0).getTransforms(0));
+
+			// The listener of the chain overrides the global one
+			SortDescriptors.<Person>startWith("firstName").setSortListener((SortStatistics statistics) -> {}).sort(persons);
+			assertEquals(1, reported.size());
+		}
+		finally {
+			SortUtils.setSortListener(null);
+		}
+		SortUtils.sort(SortExample.createPersons(100), SortDescriptors.<Person>startWith("firstName").getDescriptors());
+		assertEquals(1, reported.size());
+	}
+
+	@Test
+	public void testEngineListener() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			List<Person> persons = SortExample.createPersons(1000);
+			final List<SortStatistics> reported = new ArrayList<SortStatistics>();
+			SortDescriptors<Person> descriptors = SortDescriptors
+				.<Person>startWith("gender")
+				.thenWithInt(Person::getAge, false);
+			List<Person> expected = SortExample.sortedCopy(persons, Comparator.comparing(Person::getGender).thenComparing(Comparator.comparingInt(Person::getAge).reversed()));
+			descriptors.setSortListener((SortStatistics statistics) -> reported.add(statistics));
+
+			assertEquals(expected, descriptors.radixSortedList(persons));
+			assertEquals(expected, descriptors.normalizedKeySortedList(persons));
+			assertEquals(expected, descriptors.parallelSortedList(persons, pool, 0));
+			assertEquals(expected, descriptors.partitionSortedList(persons, pool, 0));
+			assertEquals(expected, descriptors.refinementSortedList(persons));
+			assertEquals(expected, descriptors.adaptiveSortedList(persons));
+			assertEquals(6, reported.size());
+			int[] permutation = descriptors.argsort(persons);
+			assertEquals(7, reported.size());
+			assertSame(expected.get(0), persons.get(permutation[0]));
+
+			for (SortStatistics statistics : reported) {
+				assertEquals(1000, statistics.getSize());
+				assertEquals(SortStatistics.UNKNOWN, statistics.getComparisons());
+				assertEquals(SortStatistics.UNKNOWN, statistics.getTies(0));
+				assertTrue(Double.isNaN(statistics.getTieRate(0)));
+				assertTrue(statistics.getTransforms(0) >= 1000);
+				assertTrue(statistics.getElapsedNanos() > 0);
+			}
+
+			// The partition sort never extracts the leading keys again for the partitions
+			assertEquals(1000, reported.get(3).getTransforms(0));
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testCountActualTransforms() {
+		List<Person> persons = new ArrayList<Person>();
+		for (int index = 0; index < 200; index++) {
+			persons.add(new Person("Person" + (index * 7 % 200), "Lee", Gender.Male, SortExample.getBirthday(20, 1, 1)));
+		}
+		final List<SortStatistics> reported = new ArrayList<SortStatistics>();
+		SortDescriptors<Person> descriptors = SortDescriptors
+			.<Person>startWith("firstName")
+			.thenWith("lastName")
+			.setSortListener((SortStatistics statistics) -> reported.add(statistics));
+
+		// The first names are unique, so the refinement never transforms the last names
+		descriptors.refinementSort(persons);
+		assertEquals(200, reported.get(0).getTransforms(0));
+		assertEquals(0, reported.get(0).getTransforms(1));
+
+		// The sorted input is detected by comparing the adjacent persons only
+		descriptors.adaptiveSort(persons);
+		assertEquals(2 * 199, reported.get(1).getTransforms(0));
+		assertEquals(0, reported.get(1).getTransforms(1));
+	}
+}
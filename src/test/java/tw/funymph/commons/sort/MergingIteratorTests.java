@@ -0,0 +1,139 @@
+/* MergingIteratorTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link MergingIterator}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class MergingIteratorTests {
+
+	@Test
+	public void testMerge() {
+		List<Person> persons = SortExample.createPersons(1000);
+		SortDescriptors<Person> descriptors = SortDescriptors
+			.startWith(new AdultChecker(), false)
+			.thenWith("gender")
+			.thenWith((Person p) -> p.getFirstName().substring(0, 7));
+
+		List<List<Person>> shards = new ArrayList<List<Person>>();
+		for (int shard = 0; shard < 5; shard++) {
+			shards.add(new ArrayList<Person>());
+		}
+		shards.add(new ArrayList<Person>());
+		for (int index = 0; index < persons.size(); index++) {
+			shards.get(index % 5).add(persons.get(index));
+		}
+		List<Person> concatenated = new ArrayList<Person>();
+		List<Iterator<Person>> sources = new ArrayList<Iterator<Person>>();
+		for (List<Person> shard : shards) {
+			descriptors.sort(shard);
+			concatenated.addAll(shard);
+			sources.add(shard.iterator());
+		}
+
+		// Many items tie on all the keys, so the result also verifies the stability
+		List<Person> expected = SortExample.sortedCopy(concatenated, Comparator
+			.comparing((Person p) -> p.getAge() >= AdultChecker.DEFAULT_ADULT_AGE, Comparator.reverseOrder())
+			.thenComparing(Person::getGender)
+			.thenComparing((Person p) -> p.getFirstName().substring(0, 7)));
+		assertEquals(expected, collect(descriptors.merge(sources)));
+
+		sources.clear();
+		for (List<Person> shard : shards) {
+			sources.add(shard.iterator());
+		}
+		assertEquals(expected.subList(0, 10), collect(descriptors.merge(sources, 10)));
+
+		// At most the head of each source is read beyond the limit
+		int remaining = 0;
+		for (Iterator<Person> source : sources) {
+			remaining += countRemaining(source);
+		}
+		assertTrue(remaining >= persons.size() - 10 - 5);
+	}
+
+	@Test
+	public void testMergeWithZeroLimit() {
+		Iterator<Person> source = SortExample.createPersons(10).iterator();
+		assertFalse(SortDescriptors.<Person>startWith("firstName").merge(Arrays.asList(source), 0).hasNext());
+		assertTrue(source.hasNext());
+		assertEquals(10, countRemaining(source));
+	}
+
+	@Test
+	public void testMergeWithNullSource() {
+		boolean exceptionThrown = false;
+		try {
+			SortDescriptors.<Person>startWith("firstName").merge(Arrays.<Iterator<Person>>asList(null, null));
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+	}
+
+	/**
+	 * Collect the remaining elements of the given iterator.
+	 * 
+	 * @param iterator the iterator
+	 * @return the elements
+	 */
+	private static List<Person> collect(Iterator<Person> iterator) {
+		List<Person> elements = new ArrayList<Person>();
+		while (iterator.hasNext()) {
+			elements.add(iterator.next());
+		}
+		return elements;
+	}
+
+	/**
+	 * Count the remaining elements of the given iterator.
+	 * 
+	 * @param iterator the iterator
+	 * @return the number of the remaining elements
+	 */
+	private static int countRemaining(Iterator<Person> iterator) {
+		int count = 0;
+		for (; iterator.hasNext(); iterator.next()) {
+			count++;
+		}
+		return count;
+	}
+}
@@ -0,0 +1,119 @@
+/* NormalizedKeyEncoderTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import tw.funymph.commons.sort.Person.Gender;
+
+/**
+ * This class tests the functionalities of {@link NormalizedKeyEncoder}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class NormalizedKeyEncoderTests {
+
+	private static final String[] STRINGS = { "", "a", "ab", "abc", "b", "\u0000", "a\u0000", "~", "\u007F", "\u00FF", "\u3FFF", "\u4000", "\uFFFF", "\uD83D\uDE00", null };
+	private static final double[] DOUBLES = { Double.NEGATIVE_INFINITY, -1.5, -0.0, 0.0, 1e-300, 2.5, Double.POSITIVE_INFINITY, Double.NaN };
+
+	@Test
+	public void testEncodingKeepsOrdering() {
+		Random random = new Random(15);
+		List<Object[]> rows = new ArrayList<Object[]>();
+		for (int count = 0; count < 400; count++) {
+			rows.add(new Object[] {
+				STRINGS[random.nextInt(STRINGS.length)],
+				random.nextInt(5) == 0? null : random.nextInt(7) - 3 + (random.nextBoolean()? 0 : Integer.MIN_VALUE / 2 * (random.nextInt(3) - 1)),
+				random.nextInt(5) == 0? null : DOUBLES[random.nextInt(DOUBLES.length)],
+				random.nextBoolean()? Gender.Male : Gender.Female,
+				random.nextLong() >> random.nextInt(64),
+				new Date(random.nextInt(1000) - 500),
+				(short) (random.nextInt(5) - 2),
+				(byte) (random.nextInt(5) - 2),
+				random.nextBoolean(),
+				(char) random.nextInt(0x10000),
+				(float) random.nextGaussian()
+			});
+		}
+		SortDescriptors<Object[]> descriptors = SortDescriptors
+			.startWith((Object[] row) -> (String) row[0])
+			.thenWith((Object[] row) -> (Integer) row[1], false)
+			.thenWith((Object[] row) -> (Double) row[2])
+			.thenWith((Object[] row) -> (Gender) row[3], false)
+			.thenWith((Object[] row) -> (Long) row[4])
+			.thenWith((Object[] row) -> (Date) row[5], false)
+			.thenWith((Object[] row) -> (Short) row[6])
+			.thenWith((Object[] row) -> (Byte) row[7], false)
+			.thenWith((Object[] row) -> (Boolean) row[8])
+			.thenWith((Object[] row) -> (Character) row[9], false)
+			.thenWith((Object[] row) -> (Float) row[10]);
+		CompiledSortDescriptors<Object[]> compiled = descriptors.compile();
+		NormalizedKeyEncoder<Object[]> encoder = new NormalizedKeyEncoder<Object[]>(compiled);
+		for (Object[] row1 : rows) {
+			byte[] key1 = encoder.encode(row1);
+			for (int index = 0; index < 50; index++) {
+				Object[] row2 = rows.get(random.nextInt(rows.size()));
+				assertEquals(Integer.signum(compiled.compare(row1, row2)), Integer.signum(NormalizedKeyEncoder.compare(key1, encoder.encode(row2))));
+			}
+		}
+		assertEquals(SortExample.sortedCopy(rows, compiled), descriptors.normalizedKeySortedList(rows));
+	}
+
+	@Test
+	public void testStringOrdering() {
+		SortDescriptors<String> descriptors = SortDescriptors.startWith((String s) -> s);
+		NormalizedKeyEncoder<String> encoder = new NormalizedKeyEncoder<String>(descriptors.compile());
+		for (String string1 : STRINGS) {
+			for (String string2 : STRINGS) {
+				int expected = string1 == null? (string2 == null? 0 : -1) : (string2 == null? 1 : Integer.signum(string1.compareTo(string2)));
+				assertEquals(expected, Integer.signum(NormalizedKeyEncoder.compare(encoder.encode(string1), encoder.encode(string2))));
+			}
+		}
+	}
+
+	@Test
+	public void testEncodeUnsupportedKey() {
+		boolean exceptionThrown = false;
+		try {
+			SortDescriptors<Person> descriptors = SortDescriptors.startWith((Person p) -> BigDecimal.valueOf(p.getAge()));
+			new NormalizedKeyEncoder<Person>(descriptors.compile()).encode(new Person("Ada", "Liao", Gender.Female, new Date()));
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+	}
+}
@@ -0,0 +1,98 @@
+/* PartitionSortTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link PartitionSort}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class PartitionSortTests {
+
+	@Test
+	public void testPartitionSortKeepsCompiledDirections() {
+		List<Person> persons = SortExample.createPersons(1000);
+		IntSortDescriptor<Person> age = new IntSortDescriptor<Person>(Person::getAge);
+		CompiledSortDescriptors<Person> compiled = SortDescriptors.<Person>startWith("gender").thenWith(age).compile();
+		age.setAscending(false);
+
+		List<Person> expected = SortExample.sortedCopy(persons, Comparator.comparing(Person::getGender).thenComparingInt(Person::getAge));
+		assertEquals(expected, compiled.partitionSortedList(persons));
+	}
+
+	@Test
+	public void testPartitionSortWithOneDescriptor() {
+		List<Person> persons = SortExample.createPersons(1000);
+		SortDescriptors<Person> descriptors = SortDescriptors.<Person>startWithInt(Person::getAge, false);
+		List<Person> result = new ArrayList<Person>(persons);
+		descriptors.partitionSort(result);
+		assertEquals(SortExample.sortedCopy(persons, Comparator.comparingInt(Person::getAge).reversed()), result);
+	}
+
+	@Test
+	public void testPartitionSortWithManyDistinctKeys() {
+		List<Person> persons = SortExample.createPersons(1000);
+		SortDescriptors<Person> descriptors = SortDescriptors.<Person>startWith("firstName").thenWith("gender");
+		assertNull(PartitionSort.sortedIndexes(persons.toArray(), descriptors.compile(), null, 0));
+		assertEquals(SortExample.sortedCopy(persons, Comparator.comparing(Person::getFirstName).thenComparing(Person::getGender)), descriptors.partitionSortedList(persons));
+	}
+
+	@Test
+	public void testPartitionSortWithEqualKeys() {
+		// 1.0 and 1.00 are not equal but compare as equal, so they share the partition
+		List<BigDecimal> numbers = Arrays.asList(new BigDecimal("1.00"), new BigDecimal("0.5"), new BigDecimal("1.0"), new BigDecimal("1.00"));
+		SortDescriptors<BigDecimal> descriptors = SortDescriptors.startWith((BigDecimal number) -> number);
+		List<BigDecimal> result = descriptors.partitionSortedList(numbers);
+		assertSame(numbers.get(1), result.get(0));
+		assertSame(numbers.get(0), result.get(1));
+		assertSame(numbers.get(2), result.get(2));
+		assertSame(numbers.get(3), result.get(3));
+	}
+
+	@Test
+	public void testPartitionSortWithoutPool() {
+		boolean exceptionThrown = false;
+		try {
+			SortDescriptors.<Person>startWith("gender").partitionSort(new ArrayList<Person>(), null, 0);
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+	}
+}
@@ -0,0 +1,130 @@
+/* PermutationsTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link Permutations}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class PermutationsTests {
+
+	@Test
+	public void testApplyToParallelArrays() {
+		List<Person> persons = SortExample.createPersons(300);
+		int[] ages = new int[persons.size()];
+		long[] days = new long[persons.size()];
+		double[] scores = new double[persons.size()];
+		byte[] genders = new byte[persons.size()];
+		String[] names = new String[persons.size()];
+		for (int index = 0; index < persons.size(); index++) {
+			ages[index] = persons.get(index).getAge();
+			days[index] = ages[index] * 365L;
+			scores[index] = ages[index] / 2.0;
+			genders[index] = (byte) persons.get(index).getGender().ordinal();
+			names[index] = persons.get(index).getFirstName();
+		}
+
+		SortDescriptors<Person> descriptors = SortDescriptors.<Person>startWith("gender").thenWithInt(Person::getAge, false);
+		int[] permutation = descriptors.argsort(persons);
+		Permutations.apply(permutation, ages);
+		Permutations.apply(permutation, days);
+		Permutations.apply(permutation, scores);
+		Permutations.apply(permutation, genders);
+		Permutations.apply(permutation, names);
+		Permutations.apply(permutation, persons);
+
+		List<Person> expected = SortExample.sortedCopy(SortExample.createPersons(300), Comparator.comparing(Person::getGender).thenComparing(Comparator.comparingInt(Person::getAge).reversed()));
+		for (int index = 0; index < expected.size(); index++) {
+			Person person = expected.get(index);
+			assertEquals(person.getFirstName(), persons.get(index).getFirstName());
+			assertEquals(person.getFirstName(), names[index]);
+			assertEquals(person.getAge(), ages[index]);
+			assertEquals(person.getAge() * 365L, days[index]);
+			assertEquals(person.getAge() / 2.0, scores[index], 0);
+			assertEquals(person.getGender().ordinal(), genders[index]);
+		}
+	}
+
+	@Test
+	public void testApplyToList() {
+		int[] permutation = { 2, 0, 3, 1, 4 };
+		List<String> expected = Arrays.asList("c", "a", "d", "b", "e");
+		List<String> list = new ArrayList<String>(Arrays.asList("a", "b", "c", "d", "e"));
+		Permutations.apply(permutation, list);
+		assertEquals(expected, list);
+
+		List<String> linked = new LinkedList<String>(Arrays.asList("a", "b", "c", "d", "e"));
+		Permutations.apply(permutation, linked);
+		assertEquals(expected, linked);
+		assertArrayEquals(new int[] { 2, 0, 3, 1, 4 }, permutation);
+	}
+
+	@Test
+	public void testInverse() {
+		int[] permutation = { 2, 0, 3, 1, 4 };
+		int[] inverse = Permutations.inverse(permutation);
+		assertArrayEquals(new int[] { 1, 3, 0, 2, 4 }, inverse);
+		Permutations.apply(inverse, permutation);
+		assertArrayEquals(new int[] { 0, 1, 2, 3, 4 }, permutation);
+	}
+
+	@Test
+	public void testInvalidPermutation() {
+		int[] array = { 1, 2, 3 };
+		boolean exceptionThrown = false;
+		try {
+			Permutations.apply(new int[] { 0, 2, 2 }, array);
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+		assertArrayEquals(new int[] { 1, 2, 3 }, array);
+
+		exceptionThrown = false;
+		try {
+			Permutations.apply(new int[] { 0, 1 }, array);
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+	}
+}
@@ -0,0 +1,98 @@
+/* PrimitiveSortDescriptorTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import tw.funymph.commons.sort.Person.Gender;
+
+/**
+ * This class tests the functionalities of {@link IntSortDescriptor},
+ * {@link LongSortDescriptor}, and {@link DoubleSortDescriptor}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class PrimitiveSortDescriptorTests {
+
+	@Test
+	public void testTransform() {
+		Person person = new Person("Ada", "Liao", Gender.Female, SortExample.getBirthday(33, 2, 15));
+		IntSortDescriptor<Person> age = new IntSortDescriptor<Person>(Person::getAge);
+		assertTrue(age.isAscending());
+		assertEquals(33, age.transformToInt(person));
+		assertEquals(Integer.valueOf(33), age.transform(person));
+
+		LongSortDescriptor<Person> length = new LongSortDescriptor<Person>((Person p) -> p.getFullName().length(), false);
+		assertFalse(length.isAscending());
+		assertEquals(8L, length.transformToLong(person));
+		assertEquals(Long.valueOf(8L), length.transform(person));
+
+		DoubleSortDescriptor<Person> half = new DoubleSortDescriptor<Person>((Person p) -> p.getAge() / 2.0);
+		assertEquals(16.5, half.transformToDouble(person), 0.0);
+		assertEquals(Double.valueOf(16.5), half.transform(person));
+	}
+
+	@Test
+	public void testSortWithPrimitiveKeys() {
+		List<Person> persons = new ArrayList<Person>();
+		persons.add(new Person("Joe", "Lai", Gender.Male, SortExample.getBirthday(13, 1, 3)));
+		persons.add(new Person("Jessica", "Lee", Gender.Female, SortExample.getBirthday(13, 11, 23)));
+		persons.add(new Person("Mike", "Cheng", Gender.Male, SortExample.getBirthday(18, 9, 3)));
+		persons.add(new Person("Cathy", "Feng", Gender.Female, SortExample.getBirthday(21, 5, 9)));
+
+		SortDescriptors<Person> descriptors = SortDescriptors
+			.<Person>startWithInt(Person::getAge, false)
+			.thenWithLong((Person p) -> p.getFirstName().length());
+		List<Person> result = descriptors.sortedList(persons);
+		assertEquals("Cathy Feng", result.get(0).getFullName());
+		assertEquals("Mike Cheng", result.get(1).getFullName());
+		assertEquals("Joe Lai", result.get(2).getFullName());
+		assertEquals("Jessica Lee", result.get(3).getFullName());
+
+		CompiledSortDescriptors<Person> compiled = descriptors.compile();
+		assertTrue(compiled.compare(result.get(0), result.get(1)) < 0);
+		assertTrue(compiled.compare(result.get(3), result.get(2)) > 0);
+	}
+
+	@Test
+	public void testNaNPolicy() {
+		List<Double> values = Arrays.asList(1.0, Double.NaN, -0.0, Double.NEGATIVE_INFINITY, 0.0);
+		DoubleTransformer<Double> identity = (Double value) -> value.doubleValue();
+
+		List<Double> result = SortDescriptors.startWithDouble(identity).sortedList(values);
+		assertEquals(Arrays.asList(Double.NEGATIVE_INFINITY, -0.0, 0.0, 1.0, Double.NaN), result);
+
+		result = SortDescriptors.startWithDouble(identity, false).sortedList(values);
+		assertEquals(Arrays.asList(Double.NaN, 1.0, 0.0, -0.0, Double.NEGATIVE_INFINITY), result);
+	}
+}
@@ -26,6 +26,8 @@ package tw.funymph.commons.sort;
 
 import static org.junit.Assert.*;
 
+import java.util.List;
+
 import org.junit.Test;
 
 import tw.funymph.commons.sort.PropertySortDescriptor;
@@ -64,4 +66,132 @@ public class PropertySortDescriptorTests {
 		testee.setGetterMethodPrefix("");
 		assertNull(testee.transform(person));
 	}
+
+	@Test
+	public void testTransformMixedSubclasses() {
+		PropertySortDescriptor<Person> testee = new PropertySortDescriptor<Person>("firstName");
+		Person person = new Person("Cathy", "Tu", Gender.Female, SortExample.getBirthday(30, 2, 2));
+		Person nicknamed = new Person("Catherine", "Tu", Gender.Female, SortExample.getBirthday(30, 2, 2)) {
+
+			@Override
+			public String getFirstName() {
+				return "Cat";
+			}
+		};
+		for (int index = 0; index < 3; index++) {
+			assertEquals("Cathy", testee.transform(person));
+			assertEquals("Cat", testee.transform(nicknamed));
+		}
+
+		testee.setGetterMethodPrefix(PropertySortDescriptor.BOOLEAN_GETTER_PREFIX);
+		assertNull(testee.transform(person));
+		assertNull(testee.transform(nicknamed));
+
+		testee.setGetterMethodPrefix(PropertySortDescriptor.DEFAULT_GETTER_PREFIX);
+		assertEquals("Cathy", testee.transform(person));
+		assertEquals("Cat", testee.transform(nicknamed));
+	}
+
+	@Test
+	public void testAccessorGeneration() {
+		assertTrue(PropertyAccessor.resolve(Person.class, "getAge", true).isGenerated());
+		assertFalse(PropertyAccessor.resolve(Person.class, "getAge", false).isGenerated());
+
+		PropertySortDescriptor<Person> testee = new PropertySortDescriptor<Person>("age");
+		Person person = new Person("Cathy", "Tu", Gender.Female, SortExample.getBirthday(30, 2, 2));
+		assertTrue(testee.isAccessorGenerationEnabled());
+		assertEquals(Integer.valueOf(30), testee.transform(person));
+
+		testee.setAccessorGenerationEnabled(false);
+		assertFalse(testee.isAccessorGenerationEnabled());
+		assertEquals(Integer.valueOf(30), testee.transform(person));
+	}
+
+	@Test
+	public void testNestedProperty() {
+		PropertySortDescriptor<Person> testee = new PropertySortDescriptor<Person>("homeAddress.city");
+		Person person = new Person("Cathy", "Tu", Gender.Female, SortExample.getBirthday(30, 2, 2));
+		assertNull(testee.transform(person));
+		assertNull(testee.transform(null));
+
+		person.setHomeAddress(new Address("Taiwan", "Taipei", "Roosevelt Rd."));
+		for (int index = 0; index < 3; index++) {
+			assertEquals("Taipei", testee.transform(person));
+		}
+
+		testee.setAccessorGenerationEnabled(false);
+		assertEquals("Taipei", testee.transform(person));
+
+		testee = new PropertySortDescriptor<Person>("homeAddress.country.empty", true);
+		assertEquals(Boolean.FALSE, testee.transform(person));
+
+		testee = new PropertySortDescriptor<Person>("homeAddress.zipCode");
+		assertNull(testee.transform(person));
+	}
+
+	@Test
+	public void testSortByNestedProperty() {
+		List<Person> persons = SortExample.createPersons(200);
+		String[] cities = { "Taipei", "Tainan", null, "Hsinchu" };
+		for (int index = 0; index < persons.size(); index++) {
+			String city = cities[index % cities.length];
+			if (index % 5 != 0) {
+				persons.get(index).setHomeAddress(new Address("Taiwan", city, "Main St."));
+			}
+		}
+		List<Person> expected = SortDescriptors.startWith((Person p) -> p.hasHomeAddress()? p.getHomeAddress().getCity() : null, false).thenWith("age").sortedList(persons);
+		assertEquals(expected, SortDescriptors.<Person>startWith("homeAddress.city", false).thenWith("age").sortedList(persons));
+	}
+
+	@Test
+	public void testGetterFailures() {
+		Person person = new Person("Cathy", "Tu", Gender.Female, SortExample.getBirthday(30, 2, 2));
+		person.setHomeAddress(new Address("Taiwan", "Taipei", "Roosevelt Rd."));
+		assertNull(new PropertySortDescriptor<Person>("homeAddress.citty").transform(person));
+		assertNull(new PropertySortDescriptor<Person>("homeAddress.class").transform(person));
+
+		PropertySortDescriptor<Broken> testee = new PropertySortDescriptor<Broken>("value");
+		for (boolean generated : new boolean[] { true, false }) {
+			testee.setAccessorGenerationEnabled(generated);
+			boolean exceptionThrown = false;
+			try {
+				testee.transform(new Broken());
+				fail("illegal state exception should thrown");
+			}
+			catch (IllegalStateException e) {
+				exceptionThrown = true;
+			}
+			assertTrue(exceptionThrown);
+		}
+	}
+
+	@Test
+	public void testInvalidPropertyName() {
+		for (String propertyName : new String[] { null, "", "a.", ".a", "a..b" }) {
+			boolean exceptionThrown = false;
+			try {
+				new PropertySortDescriptor<Person>(propertyName);
+				fail("illegal argument exception should thrown");
+			}
+			catch (IllegalArgumentException e) {
+				exceptionThrown = true;
+			}
+			assertTrue(exceptionThrown);
+		}
+	}
+
+	/**
+	 * This class has a getter that always fails.
+	 */
+	public static class Broken {
+
+		/**
+		 * Get the value.
+		 * 
+		 * @return never returns
+		 */
+		public Integer getValue() {
+			throw new IllegalStateException();
+		}
+	}
 }
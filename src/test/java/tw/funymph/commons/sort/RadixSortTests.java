@@ -0,0 +1,69 @@
+/* RadixSortTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link RadixSort}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class RadixSortTests {
+
+	@Test
+	public void testRadixSortFallback() {
+		List<Person> persons = SortExample.createPersons(500);
+		SortDescriptors<Person> descriptors = SortDescriptors
+			.<Person>startWithInt(Person::getAge)
+			.thenWith("firstName", false);
+
+		assertNull(SortKeyTable.build(persons.toArray(), descriptors.compile()).toFixedWidthKeys());
+		List<Person> result = new ArrayList<Person>(persons);
+		descriptors.radixSort(result);
+		assertEquals(SortExample.sortedCopy(persons, Comparator.comparingInt(Person::getAge).thenComparing(Person::getFirstName, Comparator.reverseOrder())), result);
+	}
+
+	@Test
+	public void testRadixSortWithoutItems() {
+		boolean exceptionThrown = false;
+		try {
+			SortUtils.radixSort(null, new ArrayList<SortDescriptor<Person>>());
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+	}
+}
@@ -0,0 +1,172 @@
+/* RecordSorterTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * This class tests the functionalities of {@link RecordSorter}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class RecordSorterTests {
+
+	// The layout of a tick: sequence (long), symbol (4 bytes), volume (int), price (double)
+	private static final int RECORD_SIZE = 24;
+	private static final int COUNT = 2000;
+
+	@Rule
+	public TemporaryFolder _folder = new TemporaryFolder();
+
+	private String[] _symbols = new String[COUNT];
+	private int[] _volumes = new int[COUNT];
+	private double[] _prices = new double[COUNT];
+
+	@Test
+	public void testSortedIndexes() {
+		ByteBuffer records = createRecords(ByteBuffer.allocateDirect(RECORD_SIZE * (COUNT + 1)).order(ByteOrder.LITTLE_ENDIAN), RECORD_SIZE);
+		List<Integer> expected = expectedOrder();
+		int[] indexes = createSorter().sortedIndexes(records);
+		for (int index = 0; index < COUNT; index++) {
+			assertEquals(expected.get(index).intValue(), indexes[index]);
+		}
+		assertEquals(RECORD_SIZE, records.position());
+		assertEquals(0L, records.getLong(RECORD_SIZE));
+	}
+
+	@Test
+	public void testSortBuffer() {
+		ByteBuffer records = createRecords(ByteBuffer.allocateDirect(RECORD_SIZE * (COUNT + 1)).order(ByteOrder.LITTLE_ENDIAN), RECORD_SIZE);
+		createSorter().sort(records);
+		assertSequences(expectedOrder(), records, RECORD_SIZE);
+		assertEquals(RECORD_SIZE, records.position());
+	}
+
+	@Test
+	public void testSortFile() throws IOException {
+		ByteBuffer records = createRecords(ByteBuffer.allocate(RECORD_SIZE * COUNT), 0);
+		File file = _folder.newFile();
+		try (RandomAccessFile access = new RandomAccessFile(file, "rw"); FileChannel channel = access.getChannel()) {
+			channel.write(records);
+
+			// Map the file into many small segments to cover the records across the segments
+			createSorter().sort(channel, ByteOrder.BIG_ENDIAN, 7);
+			records.clear();
+			channel.read(records, 0);
+		}
+		assertSequences(expectedOrder(), records, 0);
+	}
+
+	@Test
+	public void testInvalidRecords() {
+		boolean exceptionThrown = false;
+		try {
+			createSorter().sort(ByteBuffer.allocate(RECORD_SIZE + 1));
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+
+		exceptionThrown = false;
+		try {
+			new RecordSorter(RECORD_SIZE, RecordSortDescriptor.longField(20));
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+
+		// The end of the field overflows an int
+		exceptionThrown = false;
+		try {
+			new RecordSorter(RECORD_SIZE, RecordSortDescriptor.intField(Integer.MAX_VALUE - 1));
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+	}
+
+	private RecordSorter createSorter() {
+		return new RecordSorter(RECORD_SIZE,
+			RecordSortDescriptor.bytesField(8, 4),
+			RecordSortDescriptor.doubleField(16, false),
+			RecordSortDescriptor.intField(12));
+	}
+
+	private List<Integer> expectedOrder() {
+		List<Integer> sequences = new ArrayList<Integer>();
+		for (int index = 0; index < COUNT; index++) {
+			sequences.add(index);
+		}
+		return SortDescriptors
+			.startWith((Integer index) -> _symbols[index])
+			.thenWithDouble((Integer index) -> _prices[index], false)
+			.thenWithInt((Integer index) -> _volumes[index])
+			.sortedList(sequences);
+	}
+
+	private ByteBuffer createRecords(ByteBuffer buffer, int start) {
+		Random random = new Random(COUNT);
+		buffer.position(start);
+		for (int index = 0; index < COUNT; index++) {
+			_symbols[index] = "SYM" + (char) ('A' + random.nextInt(5));
+			_volumes[index] = random.nextInt(5) - 2;
+			_prices[index] = random.nextInt(10) / 4.0 - 1;
+			buffer.putLong(index);
+			buffer.put(_symbols[index].getBytes());
+			buffer.putInt(_volumes[index]);
+			buffer.putDouble(_prices[index]);
+		}
+		buffer.position(start);
+		return buffer;
+	}
+
+	private void assertSequences(List<Integer> expected, ByteBuffer records, int start) {
+		for (int index = 0; index < COUNT; index++) {
+			assertEquals(expected.get(index).longValue(), records.getLong(start + index * RECORD_SIZE));
+		}
+	}
+}
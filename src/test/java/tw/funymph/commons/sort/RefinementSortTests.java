@@ -0,0 +1,84 @@
+/* RefinementSortTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import tw.funymph.commons.sort.Person.Gender;
+
+/**
+ * This class tests the functionalities of {@link RefinementSort}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class RefinementSortTests {
+
+	@Test
+	public void testRefineOnlyTies() {
+		List<Person> persons = new ArrayList<Person>();
+		for (int index = 0; index < 1000; index++) {
+			persons.add(new Person("Person" + (index * 7919 % 1000), "Lee", Gender.Male, SortExample.getBirthday(1 + index % 60, 1, 1)));
+		}
+		AtomicInteger evaluations = new AtomicInteger();
+		SortDescriptors<Person> descriptors = SortDescriptors
+			.<Person>startWith("firstName")
+			.thenWith((Person p) -> {
+				evaluations.incrementAndGet();
+				return p.getAge();
+			});
+		Comparator<Person> comparator = Comparator.comparing(Person::getFirstName).thenComparingInt(Person::getAge);
+		List<Person> result = descriptors.refinementSortedList(persons);
+		assertEquals(0, evaluations.get());
+		assertEquals(SortExample.sortedCopy(persons, comparator), result);
+
+		evaluations.set(0);
+		persons.add(new Person(persons.get(0).getFirstName(), "Copy", Gender.Female, SortExample.getBirthday(20, 1, 1)));
+		result = descriptors.refinementSortedList(persons);
+		assertEquals(2, evaluations.get());
+		assertEquals(SortExample.sortedCopy(persons, comparator), result);
+	}
+
+	@Test
+	public void testRefinementSortWithNullItems() {
+		boolean exceptionThrown = false;
+		try {
+			SortDescriptors.<Person>startWith("firstName").refinementSort(null);
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+	}
+}
@@ -0,0 +1,232 @@
+/* SortEnginesTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import tw.funymph.commons.sort.Person.Gender;
+
+/**
+ * This class tests all the sort engines against the orderings that do not come
+ * from this library, i.e., the explicit orderings and {@link Collections#sort}
+ * with the hand-written comparators, so a bug shared by the engines can not pass
+ * unnoticed. The engine specific cases are tested by the tests of each engine.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class SortEnginesTests {
+
+	@Test
+	public void testExplicitOrdering() {
+		List<Person> persons = new ArrayList<Person>();
+		// getBirthday(age, month, day)
+		persons.add(new Person("Joe", "Lai", Gender.Male, SortExample.getBirthday(13, 1, 3)));
+		persons.add(new Person("Jessica", "Lee", Gender.Female, SortExample.getBirthday(13, 11, 23)));
+		persons.add(new Person("Mike", "Cheng", Gender.Male, SortExample.getBirthday(18, 9, 3)));
+		persons.add(new Person("Richard", "Wang", Gender.Male, SortExample.getBirthday(16, 7, 13)));
+		persons.add(new Person("Cathy", "Feng", Gender.Female, SortExample.getBirthday(21, 5, 9)));
+		persons.add(new Person("Bill", "Lin", Gender.Male, SortExample.getBirthday(26, 3, 22)));
+		persons.add(new Person("Zoe", "Kuan", Gender.Female, SortExample.getBirthday(34, 4, 30)));
+		SortDescriptors<Person> descriptors = SortDescriptors
+			.startWith(new AdultChecker())
+			.thenWith("gender", false)
+			.thenWith("firstName");
+
+		List<Person> expected = Arrays.asList(persons.get(1), persons.get(0), persons.get(3), persons.get(4), persons.get(6), persons.get(5), persons.get(2));
+		assertEngines(descriptors, expected, persons);
+	}
+
+	@Test
+	public void testFixedWidthKeys() {
+		List<Person> persons = SortExample.createPersons(3000);
+		SortDescriptors<Person> descriptors = SortDescriptors
+			.startWith(new AdultChecker(), false)
+			.thenWith("gender", false)
+			.thenWith((Person p) -> p.getAge() % 7 == 0? null : Integer.valueOf(-p.getAge()))
+			.thenWithDouble((Person p) -> p.getFirstName().length() / 3.0, false);
+
+		// The radix sort takes the fixed-width path for these keys
+		assertNotNull(SortKeyTable.build(persons.toArray(), descriptors.compile()).toFixedWidthKeys());
+		List<Person> expected = SortExample.sortedCopy(persons, SortEnginesTests::compareFixedWidthKeys);
+		assertEngines(descriptors, expected, persons);
+	}
+
+	@Test
+	public void testMixedKeys() {
+		// Many persons tie on all the keys, so the results also verify the stability
+		List<Person> persons = SortExample.createPersons(5000);
+		SortDescriptors<Person> descriptors = SortDescriptors
+			.<Person>startWith("gender")
+			.thenWithInt((Person p) -> p.getAge() / 10, false)
+			.thenWith((Person p) -> p.getFirstName().substring(0, 7));
+
+		List<Person> expected = SortExample.sortedCopy(persons, SortEnginesTests::compareMixedKeys);
+		assertEngines(descriptors, expected, persons);
+	}
+
+	/**
+	 * Compare the persons by whether the person is adult descending, the gender
+	 * descending, the negative age ascending but <code>null</code> for every 7 years
+	 * old, and the length of the first name descending.
+	 * 
+	 * @param p1 the first person
+	 * @param p2 the second person
+	 * @return the comparison result
+	 */
+	private static int compareFixedWidthKeys(Person p1, Person p2) {
+		int result = Boolean.compare(p2.getAge() >= AdultChecker.DEFAULT_ADULT_AGE, p1.getAge() >= AdultChecker.DEFAULT_ADULT_AGE);
+		if (result == 0) {
+			result = p2.getGender().compareTo(p1.getGender());
+		}
+		if (result == 0) {
+			boolean null1 = p1.getAge() % 7 == 0;
+			boolean null2 = p2.getAge() % 7 == 0;
+			result = null1 || null2? Boolean.compare(null2, null1) : Integer.compare(-p1.getAge(), -p2.getAge());
+		}
+		if (result == 0) {
+			result = Integer.compare(p2.getFirstName().length(), p1.getFirstName().length());
+		}
+		return result;
+	}
+
+	/**
+	 * Compare the persons by the gender, the decades of the ages descending, and
+	 * the first 7 letters of the first name.
+	 * 
+	 * @param p1 the first person
+	 * @param p2 the second person
+	 * @return the comparison result
+	 */
+	private static int compareMixedKeys(Person p1, Person p2) {
+		int result = p1.getGender().compareTo(p2.getGender());
+		if (result == 0) {
+			result = Integer.compare(p2.getAge() / 10, p1.getAge() / 10);
+		}
+		if (result == 0) {
+			result = p1.getFirstName().substring(0, 7).compareTo(p2.getFirstName().substring(0, 7));
+		}
+		return result;
+	}
+
+	/**
+	 * Assert that every sort engine sorts the given persons in the expected order.
+	 * 
+	 * @param descriptors the sort descriptors
+	 * @param expected the expected order
+	 * @param persons the persons to sort
+	 */
+	private static void assertEngines(SortDescriptors<Person> descriptors, List<Person> expected, List<Person> persons) {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			List<SortDescriptor<Person>> chain = descriptors.getDescriptors();
+			Map<String, List<Person>> results = new LinkedHashMap<String, List<Person>>();
+			results.put("sortedList", descriptors.sortedList(persons));
+			results.put("sort", sorted(persons, descriptors::sort));
+			results.put("SortUtils.sortedList", SortUtils.sortedList(persons, chain));
+			results.put("SortUtils.sort", sorted(persons, (List<Person> items) -> SortUtils.sort(items, chain)));
+			results.put("compiled", sorted(persons, descriptors.compile()::sort));
+			results.put("argsort", sorted(persons, (List<Person> items) -> Permutations.apply(descriptors.argsort(items), items)));
+			results.put("radixSortedList", descriptors.radixSortedList(persons));
+			results.put("SortUtils.radixSort", sorted(persons, (List<Person> items) -> SortUtils.radixSort(items, chain)));
+			results.put("normalizedKeySortedList", descriptors.normalizedKeySortedList(persons));
+			results.put("parallelSortedList", descriptors.parallelSortedList(persons, pool, 0));
+			results.put("parallelSort", sorted(persons, (List<Person> items) -> descriptors.parallelSort(items, pool, 1000)));
+			results.put("SortUtils.parallelSortedList", SortUtils.parallelSortedList(persons, chain, pool, 0));
+			results.put("partitionSortedList", descriptors.partitionSortedList(persons));
+			results.put("partitionSortedList(0)", descriptors.partitionSortedList(persons, pool, 0));
+			results.put("partitionSort", sorted(persons, (List<Person> items) -> descriptors.partitionSort(items, pool, Integer.MAX_VALUE)));
+			results.put("refinementSortedList", descriptors.refinementSortedList(persons));
+			results.put("refinementSort", sorted(persons, descriptors::refinementSort));
+			results.put("adaptiveSortedList", descriptors.adaptiveSortedList(persons));
+			results.put("SortUtils.adaptiveSort", sorted(persons, (List<Person> items) -> SortUtils.adaptiveSort(items, chain)));
+			results.put("top", descriptors.top(persons.size(), persons));
+			results.put("bottom", descriptors.bottom(persons.size(), persons.iterator()));
+			results.put("merge", merged(descriptors, expected, persons));
+			results.put("toSortedList", persons.stream().collect(descriptors.toSortedList()));
+			results.put("toSortedList(parallel)", persons.parallelStream().collect(descriptors.toSortedList()));
+			results.put("toComparator", persons.stream().sorted(descriptors.toComparator()).collect(Collectors.toList()));
+			for (Map.Entry<String, List<Person>> result : results.entrySet()) {
+				assertEquals(result.getKey(), expected, result.getValue());
+			}
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Sort a copy of the given persons in place by the given sort.
+	 * 
+	 * @param persons the persons to sort
+	 * @param sort the in place sort
+	 * @return the sorted copy
+	 */
+	private static List<Person> sorted(List<Person> persons, Consumer<List<Person>> sort) {
+		List<Person> result = new ArrayList<Person>(persons);
+		sort.accept(result);
+		return result;
+	}
+
+	/**
+	 * Merge the consecutive shards of the given persons, each of which is sorted in
+	 * the expected order.
+	 * 
+	 * @param descriptors the sort descriptors
+	 * @param expected the expected order of all the persons
+	 * @param persons the persons to split into the shards
+	 * @return the merged persons
+	 */
+	private static List<Person> merged(SortDescriptors<Person> descriptors, List<Person> expected, List<Person> persons) {
+		List<Iterator<Person>> sources = new ArrayList<Iterator<Person>>();
+		int shards = 4;
+		for (int shard = 0; shard < shards; shard++) {
+			List<Person> members = persons.subList(shard * persons.size() / shards, (shard + 1) * persons.size() / shards);
+			List<Person> sorted = new ArrayList<Person>(expected);
+			sorted.retainAll(new HashSet<Person>(members));
+			sources.add(sorted.iterator());
+		}
+		List<Person> result = new ArrayList<Person>();
+		for (Iterator<Person> merged = descriptors.merge(sources); merged.hasNext(); ) {
+			result.add(merged.next());
+		}
+		return result;
+	}
+}
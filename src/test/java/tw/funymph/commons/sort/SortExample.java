@@ -28,8 +28,12 @@ import static org.junit.Assert.*;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -164,4 +168,37 @@ public class SortExample {
 		calendar.set(calendar.get(Calendar.YEAR) - age, month - 1, day);
 		return calendar.getTime();
 	}
+
+	/**
+	 * Sort a copy of the given items by {@link Collections#sort(List, Comparator)},
+	 * which does not share any code with the sort engines, so the result can be
+	 * the expected order of the engines.
+	 * 
+	 * @param items the items to sort
+	 * @param comparator the comparator of the expected order
+	 * @param <ElementType> the type of the items
+	 * @return the sorted copy
+	 */
+	public static <ElementType> List<ElementType> sortedCopy(Collection<? extends ElementType> items, Comparator<? super ElementType> comparator) {
+		List<ElementType> sorted = new ArrayList<ElementType>(items);
+		Collections.sort(sorted, comparator);
+		return sorted;
+	}
+
+	/**
+	 * Create the given number of persons with random properties.
+	 * 
+	 * @param count the number of persons
+	 * @return the persons
+	 */
+	public static List<Person> createPersons(int count) {
+		Random random = new Random(count);
+		List<Person> persons = new ArrayList<Person>();
+		for (int index = 0; index < count; index++) {
+			Gender gender = random.nextBoolean()? Gender.Male : Gender.Female;
+			String firstName = "Person" + random.nextInt(count);
+			persons.add(new Person(firstName, "Lee", gender, getBirthday(1 + random.nextInt(60), 1 + random.nextInt(12), 1 + random.nextInt(28))));
+		}
+		return persons;
+	}
 }
@@ -27,11 +27,14 @@ package tw.funymph.commons.sort;
 import static org.junit.Assert.*;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.Test;
 
 import tw.funymph.commons.sort.SortDescriptor;
 import tw.funymph.commons.sort.SortUtils;
+import tw.funymph.commons.sort.Person.Gender;
 
 /**
  * This class tests the functionalities of {@link SortUtils}.
@@ -94,4 +97,50 @@ public class SortUtilsTests {
 		}
 		assertTrue(exceptionThrown);
 	}
+
+	@Test
+	public void testSortTransformsEachItemOnce() {
+		final int[] transformCount = new int[1];
+		List<Person> persons = new ArrayList<Person>();
+		for (int index = 0; index < 100; index++) {
+			persons.add(new Person("Person" + (index % 7), "Lee", Gender.Male, SortExample.getBirthday(10 + (index % 13), 1, 3)));
+		}
+		List<SortDescriptor<Person>> descriptors = new ArrayList<SortDescriptor<Person>>();
+		descriptors.add(new SimpleSortDescriptor<Person, Integer>(new Transformer<Person, Integer>() {
+
+			@Override
+			public Integer transform(Person input) {
+				transformCount[0]++;
+				return input.getAge();
+			}
+		}, false));
+		descriptors.add(new PropertySortDescriptor<Person>("firstName"));
+
+		List<Person> result = SortUtils.sortedList(persons, descriptors);
+		assertEquals(persons.size(), transformCount[0]);
+		for (int index = 1; index < result.size(); index++) {
+			Person previous = result.get(index - 1);
+			Person current = result.get(index);
+			assertTrue(previous.getAge() >= current.getAge());
+			if (previous.getAge() == current.getAge()) {
+				assertTrue(previous.getFirstName().compareTo(current.getFirstName()) <= 0);
+			}
+		}
+	}
+
+	@Test
+	public void testArgsort() {
+		List<Person> persons = SortExample.createPersons(500);
+		List<Person> snapshot = new ArrayList<Person>(persons);
+		SortDescriptors<Person> descriptors = SortDescriptors.<Person>startWithInt(Person::getAge, false).thenWith("firstName");
+		int[] permutation = SortUtils.argsort(persons, descriptors.getDescriptors());
+		assertArrayEquals(permutation, descriptors.argsort(persons));
+		assertEquals(snapshot, persons);
+
+		List<Person> expected = SortExample.sortedCopy(persons, Comparator.comparingInt(Person::getAge).reversed().thenComparing(Person::getFirstName));
+		for (int index = 0; index < permutation.length; index++) {
+			assertSame(expected.get(index), persons.get(permutation[index]));
+		}
+		assertArrayEquals(new int[0], SortUtils.argsort(new ArrayList<Person>(), descriptors.getDescriptors()));
+	}
 }
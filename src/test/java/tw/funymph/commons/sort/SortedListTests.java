@@ -0,0 +1,117 @@
+/* SortedListTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link SortedList}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class SortedListTests {
+
+	@Test
+	public void testAddRemoveAndReposition() {
+		// Each element is a mutable key and its identifier; the keys have many ties
+		SortDescriptors<int[]> descriptors = SortDescriptors.startWithInt((int[] element) -> element[0], false);
+		SortedList<int[]> list = new SortedList<int[]>(descriptors.compile());
+		List<int[]> added = new ArrayList<int[]>();
+		Random random = new Random(11);
+		for (int round = 0; round < 3000; round++) {
+			int operation = random.nextInt(4);
+			if (operation < 2 || added.isEmpty()) {
+				int[] element = new int[] { random.nextInt(50), round };
+				assertTrue(list.add(element));
+				assertFalse(list.add(element));
+				added.add(element);
+			}
+			else if (operation == 2) {
+				int[] element = added.remove(random.nextInt(added.size()));
+				assertTrue(list.remove(element));
+				assertFalse(list.remove(element));
+			}
+			else {
+				int[] element = added.get(random.nextInt(added.size()));
+				element[0] = random.nextInt(50);
+				assertTrue(list.reposition(element));
+			}
+			if (round % 100 == 0) {
+				List<int[]> expected = SortExample.sortedCopy(added, Comparator.comparingInt((int[] element) -> element[0]).reversed());
+				assertEquals(expected, list);
+				assertEquals(expected, new ArrayList<int[]>(list));
+				for (int index = 0; index < expected.size(); index++) {
+					assertEquals(index, list.indexOf(expected.get(index)));
+				}
+			}
+		}
+		assertFalse(list.reposition(new int[2]));
+		assertEquals(-1, list.indexOf(new int[2]));
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		List<Person> persons = SortExample.createPersons(200);
+		SortDescriptors<Person> descriptors = SortDescriptors.<Person>startWith("gender").thenWith("age", false);
+		SortedList<Person> list = new SortedList<Person>(descriptors.compile(), persons);
+		List<Person> expected = SortExample.sortedCopy(persons, Comparator.comparing(Person::getGender).thenComparing(Comparator.comparingInt(Person::getAge).reversed()));
+		for (Iterator<Person> iterator = list.iterator(); iterator.hasNext();) {
+			if (iterator.next().getAge() % 3 == 0) {
+				iterator.remove();
+			}
+		}
+		for (Iterator<Person> iterator = expected.iterator(); iterator.hasNext();) {
+			if (iterator.next().getAge() % 3 == 0) {
+				iterator.remove();
+			}
+		}
+		assertEquals(expected, list);
+		assertEquals(expected.get(0), list.remove(0));
+		assertEquals(expected.size() - 1, list.size());
+	}
+
+	@Test
+	public void testCreateWithoutDescriptors() {
+		boolean exceptionThrown = false;
+		try {
+			new SortedList<Person>(null);
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+	}
+}
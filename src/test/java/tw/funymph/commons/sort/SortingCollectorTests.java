@@ -0,0 +1,95 @@
+/* SortingCollectorTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link SortingCollector}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class SortingCollectorTests {
+
+	@Test
+	public void testCollectSortedList() {
+		List<Person> persons = SortExample.createPersons(5000);
+		SortDescriptors<Person> descriptors = SortDescriptors
+			.startWith(new AdultChecker(), false)
+			.thenWith("gender")
+			.thenWith((Person p) -> p.getFirstName().substring(0, 7), false);
+
+		// Many items tie on all the keys, so the result also verifies the stability
+		Comparator<Person> comparator = Comparator
+			.comparing((Person p) -> p.getAge() >= AdultChecker.DEFAULT_ADULT_AGE, Comparator.reverseOrder())
+			.thenComparing(Person::getGender)
+			.thenComparing((Person p) -> p.getFirstName().substring(0, 7), Comparator.reverseOrder());
+		List<Person> expected = SortExample.sortedCopy(persons, comparator);
+		assertEquals(expected, persons.stream().collect(descriptors.toSortedList()));
+		assertEquals(expected, persons.parallelStream().collect(descriptors.toSortedList()));
+		assertEquals(expected, persons.parallelStream().filter(p -> p != null).collect(descriptors.compile().toSortedList()));
+		assertEquals(new ArrayList<Person>(), Stream.<Person>empty().collect(descriptors.toSortedList()));
+	}
+
+	@Test
+	public void testTransformOncePerElement() {
+		List<Person> persons = SortExample.createPersons(5000);
+		AtomicInteger evaluations = new AtomicInteger();
+		SortDescriptors<Person> descriptors = SortDescriptors
+			.startWith((Person p) -> {
+				evaluations.incrementAndGet();
+				return p.getFirstName();
+			})
+			.thenWithInt(Person::getAge);
+		List<Person> expected = SortExample.sortedCopy(persons, Comparator.comparing(Person::getFirstName).thenComparingInt(Person::getAge));
+		assertEquals(expected, persons.parallelStream().collect(descriptors.toSortedList()));
+		assertEquals(persons.size(), evaluations.get());
+	}
+
+	@Test
+	public void testToComparator() {
+		List<Person> persons = SortExample.createPersons(3000);
+		SortDescriptors<Person> descriptors = SortDescriptors.<Person>startWith("gender").thenWithInt(Person::getAge, false);
+		List<Person> expected = SortExample.sortedCopy(persons, Comparator.comparing(Person::getGender).thenComparing(Comparator.comparingInt(Person::getAge).reversed()));
+		assertEquals(expected, persons.stream().sorted(descriptors.toComparator()).collect(Collectors.toList()));
+		assertEquals(expected, persons.parallelStream().sorted(descriptors.toComparator()).collect(Collectors.toList()));
+
+		// The comparator is a snapshot of the chain
+		Comparator<Person> comparator = descriptors.toComparator();
+		descriptors.thenWith("firstName");
+		assertEquals(expected, persons.stream().sorted(comparator).collect(Collectors.toList()));
+	}
+}
@@ -0,0 +1,89 @@
+/* TopSelectionTests.java created on Oct 17, 2026.
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SortDescriptor under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.commons.sort;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link TopSelection}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.1
+ * @since 1.1
+ */
+public class TopSelectionTests {
+
+	@Test
+	public void testTopAndBottom() {
+		List<Person> persons = SortExample.createPersons(1000);
+		SortDescriptors<Person> descriptors = SortDescriptors
+			.startWith(new AdultChecker(), false)
+			.thenWith("gender")
+			.thenWith((Person p) -> p.getFirstName().substring(0, 7));
+
+		// Many items tie on all the keys, so the result also verifies the stability
+		List<Person> sorted = SortExample.sortedCopy(persons, Comparator
+			.comparing((Person p) -> p.getAge() >= AdultChecker.DEFAULT_ADULT_AGE, Comparator.reverseOrder())
+			.thenComparing(Person::getGender)
+			.thenComparing((Person p) -> p.getFirstName().substring(0, 7)));
+		for (int limit : new int[] { 0, 1, 50, 999, 1000, 2000 }) {
+			int size = Math.min(limit, sorted.size());
+			assertEquals(sorted.subList(0, size), descriptors.top(limit, persons));
+			assertEquals(sorted.subList(sorted.size() - size, sorted.size()), descriptors.bottom(limit, persons.iterator()));
+		}
+	}
+
+	@Test
+	public void testTopWithoutItems() {
+		boolean exceptionThrown = false;
+		try {
+			SortDescriptors.<Person>startWith("firstName").top(10, (Iterable<Person>) null);
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+	}
+
+	@Test
+	public void testTopWithNegativeLimit() {
+		boolean exceptionThrown = false;
+		try {
+			SortDescriptors.<Person>startWith("firstName").top(-1, new ArrayList<Person>());
+			fail("illegal argument exception should thrown");
+		}
+		catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		assertTrue(exceptionThrown);
+	}
+}